@@ -104,7 +104,11 @@ CREATE TABLE evaluator_version
     evaluator_id  BIGINT(20) UNSIGNED NOT NULL COMMENT 'Evaluator ID',
     description   TEXT                 DEFAULT NULL COMMENT 'Evaluator description',
     version       VARCHAR(32) NOT NULL COMMENT 'Version number',
-    model_config  TEXT        NOT NULL COMMENT 'Model config',
+    evaluator_type VARCHAR(32) NOT NULL DEFAULT 'llm' COMMENT 'Evaluator type: llm - model judge, builtin - in-process metric',
+    metric_config TEXT                 DEFAULT NULL COMMENT 'Builtin metric config (JSON format), required when evaluator_type is builtin',
+    model_config  TEXT                 DEFAULT NULL COMMENT 'Model config, required when evaluator_type is llm',
+    cascade_config TEXT                DEFAULT NULL COMMENT 'Cascade judge config: first-tier model and escalation rule (JSON format)',
+    consensus_config TEXT              DEFAULT NULL COMMENT 'Consensus judge config: sample count, agreement and tolerance (JSON format)',
     prompt        LONGTEXT             DEFAULT NULL COMMENT 'Prompt configuration (JSON format)',
     variables     LONGTEXT             DEFAULT NULL COMMENT 'The variable parameters in the evaluator prompt',
     status        VARCHAR(32)          DEFAULT NULL COMMENT 'Version status: DRAFT, PUBLISHED, ARCHIVED',
@@ -154,6 +158,9 @@ CREATE TABLE experiment
     dataset_version          VARCHAR(32)  NOT NULL COMMENT 'Dataset version',
     evaluation_object_config LONGTEXT              DEFAULT NULL COMMENT 'Evaluation object configuration (JSON format)',
     evaluator_config         TEXT         NOT NULL COMMENT 'Evaluator Config',
+    sampling_config          TEXT                  DEFAULT NULL COMMENT 'Sampling configuration (JSON format), NULL means full run',
+    base_experiment_id       BIGINT(20) UNSIGNED   DEFAULT NULL COMMENT 'Base experiment ID for delta experiments',
+    batch_id                 VARCHAR(128)          DEFAULT NULL COMMENT 'Provider batch job ID while a batch-mode run is in flight',
     status                   VARCHAR(32)  NOT NULL DEFAULT 'DRAFT' COMMENT 'Status: DRAFT, RUNNING, COMPLETED, FAILED, STOPPED',
     progress                 INT(3) NOT NULL DEFAULT 0 COMMENT 'Progress percentage: 0-100',
     complete_time            DATETIME              DEFAULT NULL COMMENT 'Complete time',
@@ -170,24 +177,56 @@ DEFAULT CHARSET = utf8mb4 COLLATE=utf8mb4_0900_ai_ci
 COMMENT ='Experiment Table';
 
 /******************************************/
-/*   TableName = experiment_result        */
+/*   TableName = experiment_item          */
 /******************************************/
-DROP TABLE IF EXISTS experiment_result;
-CREATE TABLE experiment_result
+DROP TABLE IF EXISTS experiment_item;
+CREATE TABLE experiment_item
 (
     id                   BIGINT(20) UNSIGNED AUTO_INCREMENT NOT NULL COMMENT 'Primary Key ID',
     experiment_id        BIGINT(20) UNSIGNED NOT NULL COMMENT 'Experiment ID',
+    dataset_item_id      BIGINT(20) UNSIGNED DEFAULT NULL COMMENT 'Dataset item ID',
     input                LONGTEXT NOT NULL COMMENT 'Input content',
     actual_output        LONGTEXT NOT NULL COMMENT 'Actual output from evaluation object',
     reference_output     LONGTEXT COMMENT 'Reference output for comparison',
+    target_latency_ms    BIGINT(20)        DEFAULT NULL COMMENT 'Evaluation object call latency in milliseconds',
+    prompt_tokens        INT               DEFAULT NULL COMMENT 'Evaluation object prompt tokens',
+    completion_tokens    INT               DEFAULT NULL COMMENT 'Evaluation object completion tokens',
+    trace_id             VARCHAR(64)       DEFAULT NULL COMMENT 'Trace ID of the evaluation object call',
+    data_content         LONGTEXT          DEFAULT NULL COMMENT 'Evaluation data content (JSON format) of items not from a dataset, e.g. trace replay',
+    create_time          DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT 'Create time',
+    update_time          DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT 'Update time',
+    PRIMARY KEY (id),
+    KEY                  idx_experiment_dataset_item (experiment_id, dataset_item_id)
+) ENGINE = InnoDB
+AUTO_INCREMENT = 10000
+DEFAULT CHARSET = utf8mb4 COLLATE=utf8mb4_0900_ai_ci
+COMMENT ='Experiment Item Table, evaluation object output stored once per item';
+
+/******************************************/
+/*   TableName = experiment_result        */
+/******************************************/
+DROP TABLE IF EXISTS experiment_result;
+CREATE TABLE experiment_result
+(
+    id                   BIGINT(20) UNSIGNED AUTO_INCREMENT NOT NULL COMMENT 'Primary Key ID',
+    experiment_id        BIGINT(20) UNSIGNED NOT NULL COMMENT 'Experiment ID',
+    experiment_item_id   BIGINT(20) UNSIGNED NOT NULL COMMENT 'Experiment item ID',
+    dataset_item_id      BIGINT(20) UNSIGNED DEFAULT NULL COMMENT 'Dataset item ID',
     score                DECIMAL(3, 2)     DEFAULT NULL COMMENT 'Evaluation score: 0.0-1.0',
     reason               TEXT              DEFAULT NULL COMMENT 'Evaluation reason',
     evaluation_time      DATETIME          DEFAULT NULL COMMENT 'Evaluation execution time',
     evaluator_version_id BIGINT(20) UNSIGNED NOT NULL COMMENT 'Evaluator version ID',
+    judge_latency_ms     BIGINT(20)        DEFAULT NULL COMMENT 'Evaluator call latency in milliseconds',
+    judge_tokens         INT               DEFAULT NULL COMMENT 'Evaluator total tokens',
+    judge_samples        INT               DEFAULT NULL COMMENT 'Number of judge samples in consensus mode',
+    score_variance       DOUBLE            DEFAULT NULL COMMENT 'Sample variance of judge scores in consensus mode',
     create_time          DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT 'Create time',
     update_time          DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT 'Update time',
     PRIMARY KEY (id),
     KEY                  idx_experiment_id (experiment_id),
+    KEY                  idx_experiment_evaluator_item (experiment_id, evaluator_version_id, dataset_item_id),
+    KEY                  idx_experiment_evaluator_score (experiment_id, evaluator_version_id, score),
+    KEY                  idx_experiment_item_id (experiment_item_id),
     KEY                  idx_evaluator_version_id (evaluator_version_id),
     KEY                  idx_create_time (create_time)
 ) ENGINE = InnoDB
@@ -195,6 +234,55 @@ AUTO_INCREMENT = 10000
 DEFAULT CHARSET = utf8mb4 COLLATE=utf8mb4_0900_ai_ci
 COMMENT ='Experiment Result Table';
 
+/******************************************/
+/*   TableName = experiment_failure       */
+/******************************************/
+DROP TABLE IF EXISTS experiment_failure;
+CREATE TABLE experiment_failure
+(
+    id                   BIGINT(20) UNSIGNED AUTO_INCREMENT NOT NULL COMMENT 'Primary Key ID',
+    experiment_id        BIGINT(20) UNSIGNED NOT NULL COMMENT 'Experiment ID',
+    dataset_item_id      BIGINT(20) UNSIGNED NOT NULL COMMENT 'Dataset item ID, 0 for items not from a dataset (e.g. trace replay)',
+    source_key           VARCHAR(128) NOT NULL DEFAULT '' COMMENT 'Source of items not from a dataset (traceId:spanId for trace replay), empty for dataset items',
+    evaluator_version_id BIGINT(20) UNSIGNED NOT NULL DEFAULT 0 COMMENT 'Evaluator version ID, 0 when the evaluation object stage failed',
+    stage                VARCHAR(32)  NOT NULL COMMENT 'Failed stage: target, evaluator',
+    error_class          VARCHAR(255) DEFAULT NULL COMMENT 'Exception class name',
+    error_message        TEXT         DEFAULT NULL COMMENT 'Exception message',
+    attempt_count        INT          NOT NULL DEFAULT 1 COMMENT 'Attempt count',
+    create_time          DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT 'Create time',
+    update_time          DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT 'Update time',
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_experiment_item_evaluator (experiment_id, dataset_item_id, source_key, evaluator_version_id)
+) ENGINE = InnoDB
+AUTO_INCREMENT = 10000
+DEFAULT CHARSET = utf8mb4 COLLATE=utf8mb4_0900_ai_ci
+COMMENT ='Experiment Failure Table';
+
+/******************************************/
+/*   TableName = experiment_summary       */
+/******************************************/
+DROP TABLE IF EXISTS experiment_summary;
+CREATE TABLE experiment_summary
+(
+    id                   BIGINT(20) UNSIGNED AUTO_INCREMENT NOT NULL COMMENT 'Primary Key ID',
+    experiment_id        BIGINT(20) UNSIGNED NOT NULL COMMENT 'Experiment ID',
+    evaluator_version_id BIGINT(20) UNSIGNED NOT NULL COMMENT 'Evaluator version ID',
+    result_count         INT           NOT NULL DEFAULT 0 COMMENT 'Result count',
+    avg_score            DECIMAL(5, 4) DEFAULT NULL COMMENT 'Average score',
+    pass_count           INT           NOT NULL DEFAULT 0 COMMENT 'Results whose score reaches the pass threshold',
+    prompt_tokens        BIGINT(20)    NOT NULL DEFAULT 0 COMMENT 'Evaluation object prompt tokens',
+    completion_tokens    BIGINT(20)    NOT NULL DEFAULT 0 COMMENT 'Evaluation object completion tokens',
+    judge_tokens         BIGINT(20)    NOT NULL DEFAULT 0 COMMENT 'Evaluator tokens',
+    score_histogram      VARCHAR(2048) DEFAULT NULL COMMENT 'Result count per score as a sparse JSON object keyed by score * 100',
+    create_time          DATETIME      NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT 'Create time',
+    update_time          DATETIME      NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT 'Update time',
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_experiment_evaluator (experiment_id, evaluator_version_id)
+) ENGINE = InnoDB
+AUTO_INCREMENT = 10000
+DEFAULT CHARSET = utf8mb4 COLLATE=utf8mb4_0900_ai_ci
+COMMENT ='Experiment Summary Table, refreshed when an experiment finishes';
+
 
 /******************************************/
 /*   table = prompt                       */
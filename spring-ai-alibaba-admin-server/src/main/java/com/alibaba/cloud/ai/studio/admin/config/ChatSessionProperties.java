@@ -0,0 +1,113 @@
+package com.alibaba.cloud.ai.studio.admin.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "studio.session")
+public class ChatSessionProperties {
+
+    /**
+     * 会话存储类型：memory（堆内缓存，默认）、mmap（本地磁盘内存映射文件，重启不丢失）、
+     * redis（多节点共享）
+     */
+    private String store = "memory";
+
+    /**
+     * 会话最长空闲时间，超过后被淘汰
+     */
+    private Duration expireAfterAccess = Duration.ofMinutes(30);
+
+    /**
+     * 会话总权重上限（按会话中模板、变量和消息的字符数估算）
+     */
+    private Long maximumWeight = 50_000_000L;
+
+    /**
+     * 每个会话的基础权重，即使空会话也按此计入，同时限定会话数量不超过 maximumWeight / sessionBaseWeight
+     */
+    private Integer sessionBaseWeight = 5_000;
+
+    /**
+     * 内存映射存储配置
+     */
+    private Mmap mmap = new Mmap();
+
+    /**
+     * Redis存储配置
+     */
+    private Redis redis = new Redis();
+
+    /**
+     * 会话历史发送策略的默认值
+     */
+    private History history = new History();
+
+    @Data
+    public static class Mmap {
+        /**
+         * 数据目录
+         */
+        private String directory = "./data/sessions";
+
+        /**
+         * 初始映射大小（字节）
+         */
+        private Long initialSize = 64L * 1024 * 1024;
+
+        /**
+         * 最大文件大小（字节），单个映射区不能超过2GB
+         */
+        private Long maxSize = 1024L * 1024 * 1024;
+
+        /**
+         * 失效数据占比超过该值时触发后台压缩
+         */
+        private Double compactionRatio = 0.5;
+    }
+
+    @Data
+    public static class Redis {
+        /**
+         * Redis地址，如 redis://127.0.0.1:6379
+         */
+        private String address = "redis://127.0.0.1:6379";
+
+        private String password;
+
+        private Integer database = 0;
+
+        /**
+         * 会话键前缀，失效通知频道为 {keyPrefix}invalidation
+         */
+        private String keyPrefix = "studio:session:";
+
+        /**
+         * 本地近端缓存的最大会话数，0表示不启用
+         */
+        private Integer nearCacheSize = 1_000;
+
+        /**
+         * 本地近端缓存的存活时间，失效通知丢失时最多读到该时长内的旧数据
+         */
+        private Duration nearCacheTtl = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class History {
+        /**
+         * 会话未指定策略时使用的策略：all、last_n、token_budget、summarize
+         */
+        private String policy = "all";
+
+        private Integer lastTurns = 10;
+
+        private Integer tokenBudget = 4_000;
+
+        private Integer keepTurns = 4;
+    }
+}
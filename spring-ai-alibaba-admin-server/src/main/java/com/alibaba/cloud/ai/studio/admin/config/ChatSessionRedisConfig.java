@@ -0,0 +1,28 @@
+package com.alibaba.cloud.ai.studio.admin.config;
+
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * 会话存储使用 Redis 时创建 Redisson 客户端
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "studio.session", name = "store", havingValue = "redis")
+public class ChatSessionRedisConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public RedissonClient sessionRedissonClient(ChatSessionProperties sessionProperties) {
+        ChatSessionProperties.Redis redis = sessionProperties.getRedis();
+        Config config = new Config();
+        config.useSingleServer()
+                .setAddress(redis.getAddress())
+                .setPassword(StringUtils.hasText(redis.getPassword()) ? redis.getPassword() : null)
+                .setDatabase(redis.getDatabase());
+        return Redisson.create(config);
+    }
+}
@@ -0,0 +1,21 @@
+package com.alibaba.cloud.ai.studio.admin.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "studio.experiment.batch")
+public class ExperimentBatchProperties {
+
+    /**
+     * 批处理任务状态轮询间隔（毫秒）
+     */
+    private Long pollIntervalMs = 30000L;
+
+    /**
+     * 批处理任务完成时间窗口
+     */
+    private String completionWindow = "24h";
+}
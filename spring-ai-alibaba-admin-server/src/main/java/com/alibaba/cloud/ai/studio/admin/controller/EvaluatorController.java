@@ -2,6 +2,7 @@ package com.alibaba.cloud.ai.studio.admin.controller;
 
 import com.alibaba.cloud.ai.studio.admin.common.PageResult;
 import com.alibaba.cloud.ai.studio.admin.common.Result;
+import com.alibaba.cloud.ai.studio.admin.dto.EvaluatorBatchDebugEvent;
 import com.alibaba.cloud.ai.studio.admin.dto.EvaluatorDebugResult;
 import com.alibaba.cloud.ai.studio.admin.dto.EvaluatorTemplate;
 import com.alibaba.cloud.ai.studio.admin.dto.EvaluatorVersion;
@@ -14,8 +15,10 @@ import com.alibaba.cloud.ai.studio.admin.service.EvaluatorVersionService;
 import com.alibaba.cloud.ai.studio.admin.service.ExperimentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.util.Map;
 
@@ -154,6 +157,20 @@ public class EvaluatorController {
         }
     }
 
+    /**
+     * 批量调试评估器，按完成顺序以NDJSON流式返回每个用例的结果，最后一行为一致性汇总
+     */
+    @PostMapping(value = "/debug/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<EvaluatorBatchDebugEvent> batchDebug(@RequestBody EvaluatorBatchDebugRequest request) {
+        log.info("批量调试评估器请求: datasetVersionId={}", request.getDatasetVersionId());
+        try {
+            return evaluatorService.batchDebug(request);
+        } catch (Exception e) {
+            log.error("批量调试评估器失败", e);
+            return Flux.just(EvaluatorBatchDebugEvent.createErrorEvent(null, null, e.getMessage()));
+        }
+    }
+
     /**
      * 获取评估模板列表
      */
@@ -2,20 +2,34 @@ package com.alibaba.cloud.ai.studio.admin.controller;
 
 import com.alibaba.cloud.ai.studio.admin.common.PageResult;
 import com.alibaba.cloud.ai.studio.admin.common.Result;
+import com.alibaba.cloud.ai.studio.admin.dto.ExperimentComparison;
 import com.alibaba.cloud.ai.studio.admin.dto.ExperimentEvaluatorResultDetail;
+import com.alibaba.cloud.ai.studio.admin.dto.ExperimentFailure;
+import com.alibaba.cloud.ai.studio.admin.dto.ExperimentScoreDistribution;
+import com.alibaba.cloud.ai.studio.admin.dto.ExperimentSignificance;
+import com.alibaba.cloud.ai.studio.admin.dto.request.ExperimentCompareRequest;
 import com.alibaba.cloud.ai.studio.admin.dto.request.ExperimentCreateRequest;
+import com.alibaba.cloud.ai.studio.admin.dto.request.ExperimentEvaluatorAppendRequest;
 import com.alibaba.cloud.ai.studio.admin.dto.Experiment;
 import com.alibaba.cloud.ai.studio.admin.dto.ExperimentEvaluatorResult;
 import com.alibaba.cloud.ai.studio.admin.dto.request.ExperimentEvaluatorResultDetailListRequest;
 import com.alibaba.cloud.ai.studio.admin.dto.request.ExperimentListRequest;
+import com.alibaba.cloud.ai.studio.admin.dto.request.ExperimentScoreDistributionRequest;
+import com.alibaba.cloud.ai.studio.admin.dto.request.ExperimentSignificanceRequest;
+import com.alibaba.cloud.ai.studio.admin.dto.request.ExperimentResultExportRequest;
+import com.alibaba.cloud.ai.studio.admin.service.ExperimentComparisonService;
 import com.alibaba.cloud.ai.studio.admin.service.ExperimentService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 @Slf4j
 @RestController
@@ -25,6 +39,8 @@ public class ExperimentController {
 
     private final ExperimentService experimentService;
 
+    private final ExperimentComparisonService experimentComparisonService;
+
     /**
      * 创建实验
      */
@@ -109,6 +125,44 @@ public class ExperimentController {
     }
 
 
+    /**
+     * 流式导出实验结果，支持CSV/JSONL格式及gzip压缩
+     */
+    @GetMapping("/experiment/result/export")
+    public void exportResults(@Validated ExperimentResultExportRequest request, HttpServletResponse response) {
+        log.info("导出实验结果请求: {}", request);
+        boolean jsonl = "jsonl".equalsIgnoreCase(request.getFormat());
+        boolean gzip = Boolean.TRUE.equals(request.getGzip());
+
+        String fileName = "experiment-" + request.getExperimentId() + "-results" + (jsonl ? ".jsonl" : ".csv");
+        if (gzip) {
+            fileName += ".gz";
+            response.setContentType("application/gzip");
+        } else {
+            response.setContentType(jsonl ? "application/x-ndjson" : "text/csv");
+            response.setCharacterEncoding("UTF-8");
+        }
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+
+        try {
+            OutputStream outputStream = response.getOutputStream();
+            if (gzip) {
+                try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, 64 * 1024)) {
+                    experimentService.exportResults(request, gzipOutputStream);
+                }
+            } else {
+                experimentService.exportResults(request, outputStream);
+            }
+            outputStream.flush();
+        } catch (Exception e) {
+            log.error("导出实验结果失败", e);
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+        }
+    }
+
     /**
      * 停止实验
      */
@@ -153,4 +207,90 @@ public class ExperimentController {
             return Result.error("重启实验: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 只重跑失败或缺失的数据项
+     */
+    @PutMapping("/experiment/rerun")
+    public Result<Void> rerunFailed(@RequestParam(value = "experimentId") Long experimentId) {
+        log.info("重跑实验失败项请求: {}", experimentId);
+        try {
+            experimentService.rerunFailed(experimentId);
+            return Result.success();
+        } catch (Exception e) {
+            log.error("重跑实验失败项失败", e);
+            return Result.error("重跑实验失败项失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 为已结束的实验追加评估器
+     */
+    @PostMapping("/experiment/evaluators")
+    public Result<Experiment> appendEvaluators(@RequestBody @Validated ExperimentEvaluatorAppendRequest request) {
+        log.info("追加实验评估器请求: {}", request);
+        try {
+            Experiment experiment = experimentService.appendEvaluators(request);
+            return Result.success(experiment);
+        } catch (Exception e) {
+            log.error("追加实验评估器失败", e);
+            return Result.error("追加实验评估器失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 按数据项对比两个实验
+     */
+    @GetMapping("/experiment/compare")
+    public Result<ExperimentComparison> compare(@Validated ExperimentCompareRequest request) {
+        log.info("对比实验请求: {}", request);
+        try {
+            return Result.success(experimentComparisonService.compare(request));
+        } catch (Exception e) {
+            log.error("对比实验失败", e);
+            return Result.error("对比实验失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 配对Bootstrap显著性检验
+     */
+    @GetMapping("/experiment/significance")
+    public Result<ExperimentSignificance> significance(@Validated ExperimentSignificanceRequest request) {
+        log.info("实验显著性检验请求: {}", request);
+        try {
+            return Result.success(experimentComparisonService.significance(request));
+        } catch (Exception e) {
+            log.error("实验显著性检验失败", e);
+            return Result.error("实验显著性检验失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 获取实验中各评估器的得分分布
+     */
+    @GetMapping("/experiment/score-distribution")
+    public Result<List<ExperimentScoreDistribution>> scoreDistribution(@Validated ExperimentScoreDistributionRequest request) {
+        log.info("查询实验得分分布请求: {}", request);
+        try {
+            return Result.success(experimentService.getScoreDistribution(request));
+        } catch (Exception e) {
+            log.error("查询实验得分分布失败", e);
+            return Result.error("查询实验得分分布失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 获取实验失败项
+     */
+    @GetMapping("/experiment/failures")
+    public Result<List<ExperimentFailure>> getFailures(@RequestParam(value = "experimentId") Long experimentId) {
+        log.info("查询实验失败项请求: {}", experimentId);
+        try {
+            return Result.success(experimentService.getFailures(experimentId));
+        } catch (Exception e) {
+            log.error("查询实验失败项失败", e);
+            return Result.error("查询实验失败项失败: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.alibaba.cloud.ai.studio.admin.dto;
+
+import lombok.Data;
+
+import java.util.Set;
+
+/**
+ * 内置评估器的指标配置，指标在进程内计算，不调用模型
+ */
+@Data
+public class BuiltinMetricConfig {
+
+    public static final String EXACT_MATCH = "exact_match";
+
+    public static final String REGEX = "regex";
+
+    public static final String JSON_SCHEMA = "json_schema";
+
+    public static final String NUMERIC = "numeric";
+
+    public static final String LEVENSHTEIN = "levenshtein";
+
+    public static final String ROUGE_L = "rouge_l";
+
+    public static final String BLEU = "bleu";
+
+    /**
+     * 调试时从评估器变量中读取实际输出、参考输出的变量名
+     */
+    public static final String ACTUAL_OUTPUT_VARIABLE = "actual_output";
+
+    public static final String REFERENCE_OUTPUT_VARIABLE = "reference_output";
+
+    public static final Set<String> METRICS = Set.of(EXACT_MATCH, REGEX, JSON_SCHEMA, NUMERIC, LEVENSHTEIN, ROUGE_L, BLEU);
+
+    /**
+     * 指标：exact_match、regex、json_schema、numeric、levenshtein、rouge_l、bleu
+     */
+    private String metric;
+
+    /**
+     * 是否忽略大小写
+     */
+    private Boolean ignoreCase = false;
+
+    /**
+     * 比较前是否去除首尾空白
+     */
+    private Boolean trim = true;
+
+    /**
+     * 正则表达式（regex），实际输出中能找到匹配即通过
+     */
+    private String pattern;
+
+    /**
+     * JSON Schema（json_schema），实际输出需为合法JSON且符合该Schema
+     */
+    private String schema;
+
+    /**
+     * 数值允许的绝对误差（numeric）
+     */
+    private Double tolerance = 0.0;
+
+    /**
+     * 通过阈值（可选），配置后相似度类指标的得分按是否达到阈值转为1或0
+     */
+    private Double threshold;
+}
@@ -0,0 +1,49 @@
+package com.alibaba.cloud.ai.studio.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * 会话历史发送策略，决定每轮调用模型时携带哪些历史消息，未设置的参数取 studio.session.history 下的默认值
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatHistoryPolicy {
+
+    public static final String ALL = "all";
+
+    public static final String LAST_N = "last_n";
+
+    public static final String TOKEN_BUDGET = "token_budget";
+
+    public static final String SUMMARIZE = "summarize";
+
+    public static final Set<String> TYPES = Set.of(ALL, LAST_N, TOKEN_BUDGET, SUMMARIZE);
+
+    /**
+     * 策略：all（全部历史）、last_n（最近N轮）、token_budget（从最近一轮往前按token预算截取）、
+     * summarize（保留最近几轮原文，更早的轮次滚动合并为摘要）
+     */
+    private String type;
+
+    /**
+     * last_n：保留的轮数，一问一答为一轮，当前提问计为一轮
+     */
+    private Integer lastTurns;
+
+    /**
+     * token_budget：历史消息的token上限，当前提问始终保留
+     */
+    private Integer tokenBudget;
+
+    /**
+     * summarize：保留原文的最近轮数
+     */
+    private Integer keepTurns;
+}
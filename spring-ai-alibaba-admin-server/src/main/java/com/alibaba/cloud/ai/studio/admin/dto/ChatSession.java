@@ -53,6 +53,21 @@ public class ChatSession {
     @Builder.Default
     private List<MockTool> mockTools = new ArrayList<>();
 
+    /**
+     * 历史发送策略，为空时使用默认策略
+     */
+    private ChatHistoryPolicy historyPolicy;
+
+    /**
+     * summarize 策略下较早轮次的滚动摘要
+     */
+    private String historySummary;
+
+    /**
+     * 已合并进摘要的消息数，即 messages 中前若干条
+     */
+    private Integer summarizedMessageCount;
+
     /**
      * 会话创建时间
      */
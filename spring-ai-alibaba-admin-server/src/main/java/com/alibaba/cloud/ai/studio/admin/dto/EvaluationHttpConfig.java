@@ -0,0 +1,48 @@
+package com.alibaba.cloud.ai.studio.admin.dto;
+
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * HTTP评测对象配置：将数据项中映射的变量发送到外部Agent服务，从响应中提取实际输出
+ */
+@Data
+public class EvaluationHttpConfig {
+
+    /**
+     * 请求地址
+     */
+    private String url;
+
+    /**
+     * 请求方法：POST 或 PUT
+     */
+    private String method = "POST";
+
+    /**
+     * 请求头
+     */
+    private Map<String, String> headers;
+
+    /**
+     * 请求体字段映射，key为请求字段名，value为数据集列名；为空时发送整条数据项
+     */
+    private Map<String, String> requestMapping;
+
+    /**
+     * 实际输出在响应JSON中的路径（JSONPath，例如 $.data.output），为空时使用整个响应体
+     */
+    private String responsePath;
+
+    /**
+     * 单次请求超时时间（毫秒）
+     */
+    private Integer timeoutMs = 30000;
+
+    /**
+     * 同一地址的最大并发请求数
+     */
+    private Integer maxConcurrency = 16;
+
+}
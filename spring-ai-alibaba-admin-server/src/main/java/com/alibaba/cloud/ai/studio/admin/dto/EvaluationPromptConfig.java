@@ -12,4 +12,9 @@ public class EvaluationPromptConfig {
 
     private List<EvaluationPromptConfigVariableMap> variableMap;
 
+    /**
+     * 执行模式：sync-逐条同步调用（默认），batch-通过供应商 Batch API 离线批量执行（仅支持openai）
+     */
+    private String executionMode;
+
 }
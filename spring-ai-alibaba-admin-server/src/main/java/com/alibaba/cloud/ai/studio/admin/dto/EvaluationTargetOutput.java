@@ -0,0 +1,50 @@
+package com.alibaba.cloud.ai.studio.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 评测对象单次调用的输出及调用指标，指标无法获取时为空
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvaluationTargetOutput {
+
+    /**
+     * 实际输出
+     */
+    private String content;
+
+    /**
+     * 调用耗时（毫秒）
+     */
+    private Long latencyMs;
+
+    /**
+     * 输入Token数
+     */
+    private Integer promptTokens;
+
+    /**
+     * 输出Token数
+     */
+    private Integer completionTokens;
+
+    /**
+     * 调用的TraceID
+     */
+    private String traceId;
+
+    /**
+     * 已保存的实验数据项ID，为空表示输出尚未保存
+     */
+    private Long experimentItemId;
+
+    public static EvaluationTargetOutput of(String content) {
+        return EvaluationTargetOutput.builder().content(content).build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.alibaba.cloud.ai.studio.admin.dto;
+
+import lombok.Data;
+
+/**
+ * Trace回放评测对象配置：从 loongsuite_traces 中筛选Span，直接使用其输入输出进行评估
+ */
+@Data
+public class EvaluationTraceConfig {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    public static final int DEFAULT_MAX_SPANS = 1000;
+
+    /**
+     * 开始时间（ISO8601）
+     */
+    private String startTime;
+
+    /**
+     * 结束时间（ISO8601）
+     */
+    private String endTime;
+
+    /**
+     * 服务名
+     */
+    private String serviceName;
+
+    /**
+     * Span名称
+     */
+    private String spanName;
+
+    /**
+     * 属性过滤条件（JSON格式，key为属性名，value为属性值）
+     */
+    private String attributes;
+
+    /**
+     * 作为输入的属性名
+     */
+    private String inputAttribute = "gen_ai.input.messages";
+
+    /**
+     * 作为实际输出的属性名
+     */
+    private String outputAttribute = "gen_ai.output.messages";
+
+    /**
+     * 作为参考输出的属性名（可选）
+     */
+    private String referenceAttribute;
+
+    /**
+     * 每页拉取的Span数量，为空时取默认值
+     */
+    private Integer pageSize = DEFAULT_PAGE_SIZE;
+
+    /**
+     * 最多评估的Span数量，为空时取默认值
+     */
+    private Integer maxSpans = DEFAULT_MAX_SPANS;
+
+}
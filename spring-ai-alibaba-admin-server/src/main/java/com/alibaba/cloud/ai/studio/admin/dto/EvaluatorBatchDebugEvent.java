@@ -0,0 +1,66 @@
+package com.alibaba.cloud.ai.studio.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 批量调试的流式事件，每行一个
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvaluatorBatchDebugEvent {
+
+    /**
+     * 事件类型：result-单个用例结果，summary-汇总统计，error-错误信息
+     */
+    private String type;
+
+    /**
+     * 用例序号（从0开始），结果按完成顺序返回
+     */
+    private Integer index;
+
+    /**
+     * 数据项ID，用例来自数据集版本时填充
+     */
+    private Long datasetItemId;
+
+    /**
+     * 期望得分
+     */
+    private Double expectedScore;
+
+    /**
+     * 评估结果
+     */
+    private EvaluatorDebugResult result;
+
+    /**
+     * 错误信息
+     */
+    private String error;
+
+    /**
+     * 汇总统计（summary 时包含）
+     */
+    private EvaluatorBatchDebugSummary summary;
+
+    public static EvaluatorBatchDebugEvent createResultEvent(int index, EvaluatorDebugCase debugCase, EvaluatorDebugResult result) {
+        return EvaluatorBatchDebugEvent.builder().type("result").index(index).datasetItemId(debugCase.getDatasetItemId())
+                .expectedScore(debugCase.getExpectedScore()).result(result).build();
+    }
+
+    public static EvaluatorBatchDebugEvent createErrorEvent(Integer index, EvaluatorDebugCase debugCase, String error) {
+        return EvaluatorBatchDebugEvent.builder().type("error").index(index)
+                .datasetItemId(debugCase != null ? debugCase.getDatasetItemId() : null)
+                .expectedScore(debugCase != null ? debugCase.getExpectedScore() : null).error(error).build();
+    }
+
+    public static EvaluatorBatchDebugEvent createSummaryEvent(EvaluatorBatchDebugSummary summary) {
+        return EvaluatorBatchDebugEvent.builder().type("summary").summary(summary).build();
+    }
+}
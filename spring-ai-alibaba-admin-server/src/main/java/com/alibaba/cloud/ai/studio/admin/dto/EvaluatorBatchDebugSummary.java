@@ -0,0 +1,67 @@
+package com.alibaba.cloud.ai.studio.admin.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 批量调试汇总：评估器得分与期望得分的一致性统计，只统计有期望得分且评估成功的用例
+ */
+@Data
+@Builder
+public class EvaluatorBatchDebugSummary {
+
+    /**
+     * 用例总数
+     */
+    private Integer total;
+
+    /**
+     * 评估成功数
+     */
+    private Integer succeeded;
+
+    /**
+     * 评估失败数
+     */
+    private Integer failed;
+
+    /**
+     * 参与一致性统计的用例数
+     */
+    private Integer labelled;
+
+    /**
+     * 平均分
+     */
+    private Double meanScore;
+
+    /**
+     * 平均绝对误差
+     */
+    private Double meanAbsoluteError;
+
+    /**
+     * 一致率：误差不超过容差的比例
+     */
+    private Double agreementRate;
+
+    /**
+     * 皮尔逊相关系数，样本不足或方差为0时为空
+     */
+    private Double pearsonCorrelation;
+
+    /**
+     * 一致性容差
+     */
+    private Double tolerance;
+
+    /**
+     * 评估器消耗的Token总数
+     */
+    private Long totalTokens;
+
+    /**
+     * 总耗时（毫秒）
+     */
+    private Long elapsedMs;
+}
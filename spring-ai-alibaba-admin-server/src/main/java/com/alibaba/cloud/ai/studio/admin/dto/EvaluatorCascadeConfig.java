@@ -0,0 +1,60 @@
+package com.alibaba.cloud.ai.studio.admin.dto;
+
+import lombok.Data;
+
+/**
+ * 评估器级联配置：先由低成本模型评估，仅在得分落入不确定区间或自评置信度不足时交给评估器版本的主模型复评
+ */
+@Data
+public class EvaluatorCascadeConfig {
+
+    /**
+     * 第一级（低成本）模型配置，格式同评估器版本的 modelConfig
+     */
+    private String modelConfig;
+
+    /**
+     * 不确定区间下界（含），第一级得分落在区间内时升级
+     */
+    private Double uncertainScoreMin;
+
+    /**
+     * 不确定区间上界（含）
+     */
+    private Double uncertainScoreMax;
+
+    /**
+     * 第一级自评置信度的最低要求（0-1），低于该值或未返回置信度时升级
+     */
+    private Double minConfidence;
+
+    /**
+     * 判断第一级评估结果是否需要交给主模型复评
+     */
+    public boolean shouldEscalate(EvaluatorDebugResult result) {
+        Double score = parseDouble(result.getScore());
+        if (score == null) {
+            return true;
+        }
+        if (uncertainScoreMin != null && uncertainScoreMax != null
+                && score >= uncertainScoreMin && score <= uncertainScoreMax) {
+            return true;
+        }
+        if (minConfidence != null) {
+            Double confidence = parseDouble(result.getConfidence());
+            return confidence == null || confidence < minConfidence;
+        }
+        return false;
+    }
+
+    private static Double parseDouble(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.alibaba.cloud.ai.studio.admin.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 评估器多次采样共识配置：并发发起多次评估，足够多的得分在容差内一致时提前结束并取消其余采样
+ */
+@Data
+public class EvaluatorConsensusConfig {
+
+    public static final int MAX_SAMPLES = 10;
+
+    /**
+     * 最多采样次数
+     */
+    private Integer samples = 3;
+
+    /**
+     * 达成一致所需的采样数
+     */
+    private Integer agreement = 2;
+
+    /**
+     * 视为一致的最大得分差
+     */
+    private Double tolerance = 0.1;
+
+    /**
+     * 在已完成的得分中查找一致的组：得分排序后滑动窗口，窗口内极差不超过容差且数量达到要求
+     *
+     * @return 一致组的得分（已排序），未达成一致时返回null
+     */
+    public List<Double> findAgreement(List<Double> scores) {
+        if (scores.size() < agreement) {
+            return null;
+        }
+        List<Double> sorted = new ArrayList<>(scores);
+        sorted.sort(Double::compareTo);
+        List<Double> best = null;
+        int left = 0;
+        for (int right = 0; right < sorted.size(); right++) {
+            while (sorted.get(right) - sorted.get(left) > tolerance) {
+                left++;
+            }
+            if (right - left + 1 >= agreement && (best == null || right - left + 1 > best.size())) {
+                best = sorted.subList(left, right + 1);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 已排序得分的中位数
+     */
+    public static double median(List<Double> sorted) {
+        int size = sorted.size();
+        return size % 2 == 1 ? sorted.get(size / 2) : (sorted.get(size / 2 - 1) + sorted.get(size / 2)) / 2;
+    }
+}
@@ -0,0 +1,31 @@
+package com.alibaba.cloud.ai.studio.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 批量调试中的单个用例
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EvaluatorDebugCase {
+
+    /**
+     * 评估器变量（JSON格式），与请求中的公共变量合并，同名时以用例为准
+     */
+    private String variables;
+
+    /**
+     * 期望得分（可选），用于统计评估器与标注的一致性
+     */
+    private Double expectedScore;
+
+    /**
+     * 数据项ID，用例来自数据集版本时填充
+     */
+    private Long datasetItemId;
+}
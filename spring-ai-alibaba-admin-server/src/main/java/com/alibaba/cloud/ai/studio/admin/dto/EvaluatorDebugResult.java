@@ -8,4 +8,39 @@ public class EvaluatorDebugResult {
     private String score;
 
     private String reason;
+
+    /**
+     * 模型自评置信度（仅级联评估的第一级返回）
+     */
+    private String confidence;
+
+    /**
+     * 是否由第一级模型升级到主模型复评
+     */
+    private Boolean escalated;
+
+    /**
+     * 评估耗时（毫秒），级联评估时为各级耗时之和
+     */
+    private Long latencyMs;
+
+    /**
+     * 评估消耗的Token总数，级联评估时为各级之和
+     */
+    private Integer totalTokens;
+
+    /**
+     * 共识评估的有效采样次数
+     */
+    private Integer sampleCount;
+
+    /**
+     * 共识评估各采样得分的样本方差
+     */
+    private Double scoreVariance;
+
+    /**
+     * 共识评估是否在容差内达成一致
+     */
+    private Boolean consensusReached;
 }
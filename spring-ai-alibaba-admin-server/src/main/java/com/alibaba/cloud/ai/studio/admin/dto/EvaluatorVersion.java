@@ -26,11 +26,31 @@ public class EvaluatorVersion {
      */
     private String version;
 
+    /**
+     * 评估器类型：llm-模型评估（默认），builtin-内置指标
+     */
+    private String evaluatorType;
+
+    /**
+     * 内置指标配置（JSON格式），评估器类型为builtin时必填
+     */
+    private String metricConfig;
+
     /**
      * 模型ID
      */
     private String modelConfig;
 
+    /**
+     * 级联评估配置（JSON格式，可选）
+     */
+    private String cascadeConfig;
+
+    /**
+     * 共识采样配置（JSON格式，可选）
+     */
+    private String consensusConfig;
+
     /**
      * Prompt配置（JSON格式）
      */
@@ -79,7 +99,11 @@ public class EvaluatorVersion {
                 .id(evaluatorVersionDO.getId())
                 .description(evaluatorVersionDO.getDescription())
                 .version(evaluatorVersionDO.getVersion())
+                .evaluatorType(evaluatorVersionDO.getEvaluatorType())
+                .metricConfig(evaluatorVersionDO.getMetricConfig())
                 .modelConfig(evaluatorVersionDO.getModelConfig())
+                .cascadeConfig(evaluatorVersionDO.getCascadeConfig())
+                .consensusConfig(evaluatorVersionDO.getConsensusConfig())
                 .prompt(evaluatorVersionDO.getPrompt())
                 .createTime(evaluatorVersionDO.getCreateTime())
                 .updateTime(evaluatorVersionDO.getUpdateTime())
@@ -1,6 +1,7 @@
 package com.alibaba.cloud.ai.studio.admin.dto;
 
 import com.alibaba.cloud.ai.studio.admin.entity.ExperimentDO;
+import com.alibaba.cloud.ai.studio.admin.entity.ExperimentSummaryDO;
 import lombok.Builder;
 import lombok.Data;
 
@@ -46,6 +47,16 @@ public class Experiment {
      */
     private String evaluatorConfig;
 
+    /**
+     * 采样配置（JSON格式），为空表示全量执行
+     */
+    private String samplingConfig;
+
+    /**
+     * 基准实验ID：增量实验复用基准实验中相同数据项的评估结果，为空表示普通实验
+     */
+    private Long baseExperimentId;
+
     /**
      * 状态：DRAFT-草稿，RUNNING-运行中，COMPLETED-已完成，FAILED-失败，STOPPED-已停止
      */
@@ -72,6 +83,11 @@ public class Experiment {
      */
     private LocalDateTime updateTime;
 
+    /**
+     * 按评估器的汇总统计，实验结束后可用
+     */
+    private List<ExperimentSummary> summaries;
+
     /**
      * 从DO对象转换为DTO对象
      *
@@ -90,6 +106,8 @@ public class Experiment {
                 .datasetVersion(experimentDO.getDatasetVersion())
                 .evaluationObjectConfig(experimentDO.getEvaluationObjectConfig())
                 .evaluatorConfig(experimentDO.getEvaluatorConfig())
+                .samplingConfig(experimentDO.getSamplingConfig())
+                .baseExperimentId(experimentDO.getBaseExperimentId())
                 .status(experimentDO.getStatus())
                 .progress(experimentDO.getProgress())
                 .completeTime(experimentDO.getCompleteTime())
@@ -98,4 +116,19 @@ public class Experiment {
                 .build();
     }
 
+    /**
+     * 从DO对象及其汇总统计转换为DTO对象
+     *
+     * @param experimentDO DO对象
+     * @param summaries 该实验的汇总统计，可为空
+     * @return DTO对象
+     */
+    public static Experiment fromDO(ExperimentDO experimentDO, List<ExperimentSummaryDO> summaries) {
+        Experiment experiment = fromDO(experimentDO);
+        if (experiment != null && summaries != null) {
+            experiment.setSummaries(summaries.stream().map(ExperimentSummary::fromDO).toList());
+        }
+        return experiment;
+    }
+
 } 
\ No newline at end of file
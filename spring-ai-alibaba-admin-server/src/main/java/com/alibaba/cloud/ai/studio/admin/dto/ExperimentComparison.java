@@ -0,0 +1,78 @@
+package com.alibaba.cloud.ai.studio.admin.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 两个实验按数据项对比的结果
+ */
+@Data
+@Builder
+public class ExperimentComparison {
+
+    private Long baseExperimentId;
+
+    private Long targetExperimentId;
+
+    private Long evaluatorVersionId;
+
+    private Long targetEvaluatorVersionId;
+
+    /**
+     * 两个实验都有得分的数据项数量
+     */
+    private Integer matchedItemsCount;
+
+    /**
+     * 只在基准实验中出现的数据项数量
+     */
+    private Integer baseOnlyItemsCount;
+
+    /**
+     * 只在对比实验中出现的数据项数量
+     */
+    private Integer targetOnlyItemsCount;
+
+    /**
+     * 对比实验得分更高的数据项数量
+     */
+    private Integer winCount;
+
+    /**
+     * 对比实验得分更低的数据项数量
+     */
+    private Integer lossCount;
+
+    /**
+     * 持平的数据项数量
+     */
+    private Integer tieCount;
+
+    /**
+     * 匹配数据项上基准实验的平均分
+     */
+    private BigDecimal baseAverageScore;
+
+    /**
+     * 匹配数据项上对比实验的平均分
+     */
+    private BigDecimal targetAverageScore;
+
+    /**
+     * 平均得分差（对比实验 - 基准实验）
+     */
+    private BigDecimal meanDelta;
+
+    /**
+     * 退化最严重的数据项（按得分差升序）
+     */
+    private List<ExperimentItemDelta> regressions;
+
+    /**
+     * 提升最明显的数据项（按得分差降序）
+     */
+    private List<ExperimentItemDelta> improvements;
+}
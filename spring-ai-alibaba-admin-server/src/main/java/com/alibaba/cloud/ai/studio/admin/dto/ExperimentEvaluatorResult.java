@@ -37,6 +37,66 @@ public class ExperimentEvaluatorResult {
 
     private Integer totalItemsCount;
 
+    /**
+     * 失败的数据项数量
+     */
+    private Integer failedItemsCount;
+
+    /**
+     * 得分样本标准差
+     */
+    private BigDecimal scoreStdDev;
+
+    /**
+     * 平均分置信区间下界
+     */
+    private BigDecimal confidenceLowerBound;
+
+    /**
+     * 平均分置信区间上界
+     */
+    private BigDecimal confidenceUpperBound;
+
+    /**
+     * 评测对象耗时P50（毫秒）
+     */
+    private Long targetLatencyP50Ms;
+
+    /**
+     * 评测对象耗时P95（毫秒）
+     */
+    private Long targetLatencyP95Ms;
+
+    /**
+     * 评估器耗时P50（毫秒）
+     */
+    private Long judgeLatencyP50Ms;
+
+    /**
+     * 评估器耗时P95（毫秒）
+     */
+    private Long judgeLatencyP95Ms;
+
+    /**
+     * 评测对象输入Token总数
+     */
+    private Long promptTokens;
+
+    /**
+     * 评测对象输出Token总数
+     */
+    private Long completionTokens;
+
+    /**
+     * 评估器Token总数
+     */
+    private Long judgeTokens;
+
+    /**
+     * Token总数（评测对象 + 评估器）
+     */
+    private Long totalTokens;
+
 
 
 } 
\ No newline at end of file
@@ -17,6 +17,11 @@ public class ExperimentEvaluatorResultDetail {
      */
     private Long experimentId;
 
+    /**
+     * 数据项ID
+     */
+    private Long datasetItemId;
+
     /**
      * 输入内容
      */
@@ -52,6 +57,46 @@ public class ExperimentEvaluatorResultDetail {
      */
     private Long evaluatorVersionId;
 
+    /**
+     * 评测对象调用耗时（毫秒）
+     */
+    private Long targetLatencyMs;
+
+    /**
+     * 评估器调用耗时（毫秒）
+     */
+    private Long judgeLatencyMs;
+
+    /**
+     * 评测对象输入Token数
+     */
+    private Integer promptTokens;
+
+    /**
+     * 评测对象输出Token数
+     */
+    private Integer completionTokens;
+
+    /**
+     * 评估器消耗的Token总数
+     */
+    private Integer judgeTokens;
+
+    /**
+     * 评测对象调用的TraceID
+     */
+    private String traceId;
+
+    /**
+     * 共识评估的采样次数
+     */
+    private Integer judgeSamples;
+
+    /**
+     * 共识评估得分的样本方差
+     */
+    private Double scoreVariance;
+
     /**
      * 创建时间
      */
@@ -75,6 +120,7 @@ public class ExperimentEvaluatorResultDetail {
         return ExperimentEvaluatorResultDetail.builder()
                 .experimentId(experimentResultDO.getId())
                 .experimentId(experimentResultDO.getExperimentId())
+                .datasetItemId(experimentResultDO.getDatasetItemId())
                 .input(experimentResultDO.getInput())
                 .actualOutput(experimentResultDO.getActualOutput())
                 .referenceOutput(experimentResultDO.getReferenceOutput())
@@ -82,6 +128,14 @@ public class ExperimentEvaluatorResultDetail {
                 .reason(experimentResultDO.getReason())
                 .evaluationTime(experimentResultDO.getEvaluationTime())
                 .evaluatorVersionId(experimentResultDO.getEvaluatorVersionId())
+                .targetLatencyMs(experimentResultDO.getTargetLatencyMs())
+                .judgeLatencyMs(experimentResultDO.getJudgeLatencyMs())
+                .promptTokens(experimentResultDO.getPromptTokens())
+                .completionTokens(experimentResultDO.getCompletionTokens())
+                .judgeTokens(experimentResultDO.getJudgeTokens())
+                .traceId(experimentResultDO.getTraceId())
+                .judgeSamples(experimentResultDO.getJudgeSamples())
+                .scoreVariance(experimentResultDO.getScoreVariance())
                 .createTime(experimentResultDO.getCreateTime())
                 .updateTime(experimentResultDO.getUpdateTime())
                 .build();
@@ -0,0 +1,80 @@
+package com.alibaba.cloud.ai.studio.admin.dto;
+
+import com.alibaba.cloud.ai.studio.admin.entity.ExperimentFailureDO;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class ExperimentFailure {
+
+    /**
+     * 实验ID
+     */
+    private Long experimentId;
+
+    /**
+     * 数据项ID
+     */
+    private Long datasetItemId;
+
+    /**
+     * 非数据集评估项的来源标识（Trace回放为 traceId:spanId）
+     */
+    private String sourceKey;
+
+    /**
+     * 评估器版本ID，评测对象阶段失败时为0
+     */
+    private Long evaluatorVersionId;
+
+    /**
+     * 失败阶段：target-评测对象，evaluator-评估器
+     */
+    private String stage;
+
+    /**
+     * 异常类名
+     */
+    private String errorClass;
+
+    /**
+     * 异常信息
+     */
+    private String errorMessage;
+
+    /**
+     * 尝试次数
+     */
+    private Integer attemptCount;
+
+    /**
+     * 最近一次失败时间
+     */
+    private LocalDateTime updateTime;
+
+    /**
+     * 从DO对象转换为DTO对象
+     *
+     * @param failureDO DO对象
+     * @return DTO对象
+     */
+    public static ExperimentFailure fromDO(ExperimentFailureDO failureDO) {
+        if (failureDO == null) {
+            return null;
+        }
+        return ExperimentFailure.builder()
+                .experimentId(failureDO.getExperimentId())
+                .datasetItemId(failureDO.getDatasetItemId())
+                .sourceKey(failureDO.getSourceKey())
+                .evaluatorVersionId(failureDO.getEvaluatorVersionId())
+                .stage(failureDO.getStage())
+                .errorClass(failureDO.getErrorClass())
+                .errorMessage(failureDO.getErrorMessage())
+                .attemptCount(failureDO.getAttemptCount())
+                .updateTime(failureDO.getUpdateTime())
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.alibaba.cloud.ai.studio.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 单个数据项在两个实验间的得分差
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExperimentItemDelta {
+
+    /**
+     * 数据项ID
+     */
+    private Long datasetItemId;
+
+    /**
+     * 基准实验得分
+     */
+    private BigDecimal baseScore;
+
+    /**
+     * 对比实验得分
+     */
+    private BigDecimal targetScore;
+
+    /**
+     * 得分差（对比实验 - 基准实验）
+     */
+    private BigDecimal delta;
+}
@@ -0,0 +1,68 @@
+package com.alibaba.cloud.ai.studio.admin.dto;
+
+import lombok.Data;
+
+/**
+ * 实验采样配置：按随机或分层方式抽取数据集子集，并支持按置信区间宽度提前终止
+ */
+@Data
+public class ExperimentSamplingConfig {
+
+    public static final String STRATEGY_RANDOM = "random";
+
+    public static final String STRATEGY_STRATIFIED = "stratified";
+
+    /**
+     * 采样策略：random-随机采样，stratified-按列分层采样
+     */
+    private String strategy = STRATEGY_RANDOM;
+
+    /**
+     * 采样数量，优先于 sampleRatio
+     */
+    private Integer sampleSize;
+
+    /**
+     * 采样比例（0-1]
+     */
+    private Double sampleRatio;
+
+    /**
+     * 分层列名（dataContent中的字段），strategy为stratified时必填
+     */
+    private String stratifyColumn;
+
+    /**
+     * 随机种子，相同种子得到相同的样本，便于版本间对比
+     */
+    private Long seed;
+
+    /**
+     * 提前终止阈值：所有评估器平均分的置信区间宽度都不大于该值时停止，为空则不提前终止
+     */
+    private Double confidenceWidth;
+
+    /**
+     * 置信水平
+     */
+    private Double confidenceLevel = 0.95;
+
+    /**
+     * 判断提前终止前至少需要评估的数据项数量
+     */
+    private Integer minSamples = 30;
+
+    /**
+     * 根据总数据量计算实际采样数量
+     */
+    public int resolveSampleSize(int totalCount) {
+        int size = totalCount;
+        if (sampleSize != null && sampleSize > 0) {
+            size = sampleSize;
+        } else if (sampleRatio != null && sampleRatio > 0) {
+            size = (int) Math.ceil(totalCount * sampleRatio);
+        }
+        return Math.min(size, totalCount);
+    }
+
+}
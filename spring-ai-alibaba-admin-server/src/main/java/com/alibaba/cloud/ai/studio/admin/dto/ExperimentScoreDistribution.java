@@ -0,0 +1,86 @@
+package com.alibaba.cloud.ai.studio.admin.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 实验中单个评估器的得分分布
+ */
+@Data
+@Builder
+public class ExperimentScoreDistribution {
+
+    /**
+     * 评估器版本ID
+     */
+    private Long evaluatorVersionId;
+
+    /**
+     * 结果数量
+     */
+    private Long resultCount;
+
+    /**
+     * 平均得分
+     */
+    private BigDecimal averageScore;
+
+    /**
+     * 得分P10
+     */
+    private BigDecimal p10;
+
+    /**
+     * 得分P50
+     */
+    private BigDecimal p50;
+
+    /**
+     * 得分P90
+     */
+    private BigDecimal p90;
+
+    /**
+     * 通过分数线
+     */
+    private BigDecimal passThreshold;
+
+    /**
+     * 得分不低于通过分数线的比例
+     */
+    private BigDecimal passRate;
+
+    /**
+     * 等宽区间直方图
+     */
+    private List<Bin> histogram;
+
+    /**
+     * 数据来源：summary（实验结束时物化的汇总）或 scan（运行中按索引实时聚合）
+     */
+    private String source;
+
+    @Data
+    @AllArgsConstructor
+    public static class Bin {
+
+        /**
+         * 区间下界（含）
+         */
+        private BigDecimal lower;
+
+        /**
+         * 区间上界（最后一个区间含上界）
+         */
+        private BigDecimal upper;
+
+        /**
+         * 区间内的结果数量
+         */
+        private Long count;
+    }
+}
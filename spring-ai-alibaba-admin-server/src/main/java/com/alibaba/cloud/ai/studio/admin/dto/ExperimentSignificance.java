@@ -0,0 +1,70 @@
+package com.alibaba.cloud.ai.studio.admin.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 配对Bootstrap显著性检验结果
+ */
+@Data
+@Builder
+public class ExperimentSignificance {
+
+    private Long baseExperimentId;
+
+    private Long targetExperimentId;
+
+    private Long evaluatorVersionId;
+
+    private Long targetEvaluatorVersionId;
+
+    /**
+     * 两组都有得分的配对数据项数量
+     */
+    private Integer pairedItemsCount;
+
+    /**
+     * 重采样次数
+     */
+    private Integer resamples;
+
+    /**
+     * 置信水平
+     */
+    private Double confidenceLevel;
+
+    /**
+     * 配对数据项上基准组的平均分
+     */
+    private Double baseAverageScore;
+
+    /**
+     * 配对数据项上对比组的平均分
+     */
+    private Double targetAverageScore;
+
+    /**
+     * 平均得分差（对比组 - 基准组）
+     */
+    private Double meanDelta;
+
+    /**
+     * 平均得分差置信区间下界
+     */
+    private Double confidenceLowerBound;
+
+    /**
+     * 平均得分差置信区间上界
+     */
+    private Double confidenceUpperBound;
+
+    /**
+     * 双侧p值
+     */
+    private Double pValue;
+
+    /**
+     * 在给定置信水平下差异是否显著
+     */
+    private Boolean significant;
+}
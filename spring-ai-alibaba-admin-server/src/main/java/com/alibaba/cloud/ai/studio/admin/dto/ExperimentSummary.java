@@ -0,0 +1,70 @@
+package com.alibaba.cloud.ai.studio.admin.dto;
+
+import com.alibaba.cloud.ai.studio.admin.entity.ExperimentSummaryDO;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 实验按评估器的汇总统计
+ */
+@Data
+@Builder
+public class ExperimentSummary {
+
+    /**
+     * 评估器版本ID
+     */
+    private Long evaluatorVersionId;
+
+    /**
+     * 结果数量
+     */
+    private Integer resultCount;
+
+    /**
+     * 平均得分
+     */
+    private BigDecimal averageScore;
+
+    /**
+     * 通过率（得分不低于通过分数线的比例）
+     */
+    private BigDecimal passRate;
+
+    /**
+     * 评测对象输入Token总数
+     */
+    private Long promptTokens;
+
+    /**
+     * 评测对象输出Token总数
+     */
+    private Long completionTokens;
+
+    /**
+     * 评估器Token总数
+     */
+    private Long judgeTokens;
+
+    public static ExperimentSummary fromDO(ExperimentSummaryDO summaryDO) {
+        if (summaryDO == null) {
+            return null;
+        }
+        int resultCount = summaryDO.getResultCount() != null ? summaryDO.getResultCount() : 0;
+        return ExperimentSummary.builder()
+                .evaluatorVersionId(summaryDO.getEvaluatorVersionId())
+                .resultCount(resultCount)
+                .averageScore(summaryDO.getAvgScore() != null
+                        ? summaryDO.getAvgScore().setScale(2, RoundingMode.HALF_UP) : null)
+                .passRate(resultCount > 0
+                        ? BigDecimal.valueOf(summaryDO.getPassCount()).divide(BigDecimal.valueOf(resultCount), 4, RoundingMode.HALF_UP)
+                        : null)
+                .promptTokens(summaryDO.getPromptTokens())
+                .completionTokens(summaryDO.getCompletionTokens())
+                .judgeTokens(summaryDO.getJudgeTokens())
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.alibaba.cloud.ai.studio.admin.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 基于 search_after 的Span游标分页结果
+ */
+@Data
+@Builder
+public class TraceScrollPage {
+
+    /**
+     * 满足条件的Span总数
+     */
+    private Long totalCount;
+
+    /**
+     * 当前页Span
+     */
+    private List<TraceSpanDTO> spans;
+
+    /**
+     * 下一页的游标（最后一条记录的排序值），没有更多数据时为null
+     */
+    private List<Object> nextSearchAfter;
+}
@@ -0,0 +1,76 @@
+package com.alibaba.cloud.ai.studio.admin.dto.request;
+
+import com.alibaba.cloud.ai.studio.admin.dto.EvaluatorDebugCase;
+import com.alibaba.cloud.ai.studio.admin.dto.VariableMapItem;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class EvaluatorBatchDebugRequest {
+
+    /**
+     * 评估器类型：llm-模型评估（默认），builtin-内置指标
+     */
+    private String evaluatorType;
+
+    /**
+     * 内置指标配置，评估器类型为builtin时必填
+     */
+    private String metricConfig;
+
+    /**
+     * 模型配置，评估器类型为llm时必填
+     */
+    private String modelConfig;
+
+    /**
+     * Prompt，评估器类型为llm时必填
+     */
+    private String prompt;
+
+    /**
+     * 级联评估配置（可选）
+     */
+    private String cascadeConfig;
+
+    /**
+     * 共识采样配置（可选）
+     */
+    private String consensusConfig;
+
+    /**
+     * 公共变量（JSON格式，可选）
+     */
+    private String variables;
+
+    /**
+     * 调试用例，与 datasetVersionId 二选一
+     */
+    private List<EvaluatorDebugCase> cases;
+
+    /**
+     * 数据集版本ID，从数据集版本的数据项按 variableMap 构建用例
+     */
+    private Long datasetVersionId;
+
+    /**
+     * 评估器变量与数据项列的映射，使用数据集版本时必填
+     */
+    private List<VariableMapItem> variableMap;
+
+    /**
+     * 数据项中期望得分所在的列
+     */
+    private String expectedScoreField = "expected_score";
+
+    /**
+     * 并发数
+     */
+    private Integer concurrency = 4;
+
+    /**
+     * 得分与期望得分之差不超过该值时视为一致
+     */
+    private Double tolerance = 0.1;
+}
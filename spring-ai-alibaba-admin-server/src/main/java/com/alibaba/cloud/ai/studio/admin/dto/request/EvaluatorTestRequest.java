@@ -1,18 +1,41 @@
 package com.alibaba.cloud.ai.studio.admin.dto.request;
 
 
-import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
 @Data
 public class EvaluatorTestRequest {
-    @NotNull
+    /**
+     * 评估器类型：llm-模型评估（默认），builtin-内置指标
+     */
+    private String evaluatorType;
+
+    /**
+     * 内置指标配置，评估器类型为builtin时必填
+     */
+    private String metricConfig;
+
+    /**
+     * 模型配置，评估器类型为llm时必填
+     */
     private String modelConfig;
 
-    @NotNull
+    /**
+     * Prompt，评估器类型为llm时必填
+     */
     private String prompt;
 
 
     private String variables;
 
+    /**
+     * 级联评估配置（可选），用于调试级联效果
+     */
+    private String cascadeConfig;
+
+    /**
+     * 共识采样配置（可选）
+     */
+    private String consensusConfig;
+
 }
@@ -15,11 +15,31 @@ public class EvaluatorVersionCreateRequest {
      */
     private String description;
 
+    /**
+     * 评估器类型：llm-模型评估（默认），builtin-内置指标
+     */
+    private String evaluatorType;
+
+    /**
+     * 内置指标配置（JSON格式），评估器类型为builtin时必填
+     */
+    private String metricConfig;
+
     /**
      * 模型ID
      */
     private String modelConfig;
 
+    /**
+     * 级联评估配置（可选）：第一级低成本模型及升级规则
+     */
+    private String cascadeConfig;
+
+    /**
+     * 共识采样配置（可选）：采样次数、一致数量及容差
+     */
+    private String consensusConfig;
+
     /**
      * Prompt
      */
@@ -0,0 +1,47 @@
+package com.alibaba.cloud.ai.studio.admin.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class ExperimentCompareRequest {
+
+    /**
+     * 基准实验ID
+     */
+    @NotNull
+    private Long baseExperimentId;
+
+    /**
+     * 对比实验ID
+     */
+    @NotNull
+    private Long targetExperimentId;
+
+    /**
+     * 评估器版本ID
+     */
+    @NotNull
+    private Long evaluatorVersionId;
+
+    /**
+     * 对比实验的评估器版本ID（可选，不传则与 evaluatorVersionId 相同）
+     */
+    private Long targetEvaluatorVersionId;
+
+    /**
+     * 得分差的绝对值不大于该值时视为持平
+     */
+    @Min(value = 0, message = "持平阈值不能为负数")
+    private Double tieTolerance = 0.0;
+
+    /**
+     * 返回的退化/提升数据项数量上限
+     */
+    @Min(value = 1, message = "topN最小值为1")
+    @Max(value = 500, message = "topN最大值为500")
+    private Integer topN = 50;
+
+}
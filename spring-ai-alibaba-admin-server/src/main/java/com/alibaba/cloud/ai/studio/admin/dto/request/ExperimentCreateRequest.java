@@ -47,5 +47,15 @@ public class ExperimentCreateRequest {
      */
     private String evaluatorConfig;
 
+    /**
+     * 采样配置（JSON格式，见 ExperimentSamplingConfig），为空表示全量执行
+     */
+    private String samplingConfig;
+
+    /**
+     * 基准实验ID（可选）：设置后只评估基准实验中没有的数据项，其余结果从基准实验复制
+     */
+    private Long baseExperimentId;
+
 
 }
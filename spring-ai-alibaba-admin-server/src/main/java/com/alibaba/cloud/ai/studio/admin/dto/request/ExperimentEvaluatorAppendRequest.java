@@ -0,0 +1,22 @@
+package com.alibaba.cloud.ai.studio.admin.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class ExperimentEvaluatorAppendRequest {
+
+    /**
+     * 实验ID
+     */
+    @NotNull
+    private Long experimentId;
+
+    /**
+     * 追加的评估器配置（JSON数组格式，与创建实验时相同）
+     */
+    @NotBlank
+    private String evaluatorConfig;
+
+}
@@ -0,0 +1,32 @@
+package com.alibaba.cloud.ai.studio.admin.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+@Data
+public class ExperimentResultExportRequest {
+
+    /**
+     * 实验ID
+     */
+    @NotNull
+    private Long experimentId;
+
+    /**
+     * 评估器版本ID（可选，不传则导出全部评估器的结果）
+     */
+    private Long evaluatorVersionId;
+
+    /**
+     * 导出格式：csv 或 jsonl
+     */
+    @Pattern(regexp = "^(csv|jsonl)$", message = "导出格式只支持csv或jsonl")
+    private String format = "csv";
+
+    /**
+     * 是否使用gzip压缩
+     */
+    private Boolean gzip = false;
+
+}
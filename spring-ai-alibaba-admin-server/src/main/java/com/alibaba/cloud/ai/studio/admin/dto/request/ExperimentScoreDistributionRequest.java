@@ -0,0 +1,40 @@
+package com.alibaba.cloud.ai.studio.admin.dto.request;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class ExperimentScoreDistributionRequest {
+
+    /**
+     * 实验ID
+     */
+    @NotNull
+    private Long experimentId;
+
+    /**
+     * 评估器版本ID（可选，不传则返回实验中全部评估器）
+     */
+    private Long evaluatorVersionId;
+
+    /**
+     * 通过分数线
+     */
+    @DecimalMin(value = "0", message = "通过分数线最小值为0")
+    @DecimalMax(value = "1", message = "通过分数线最大值为1")
+    private BigDecimal passThreshold = new BigDecimal("0.5");
+
+    /**
+     * 直方图区间数
+     */
+    @Min(value = 1, message = "直方图区间数最小值为1")
+    @Max(value = 100, message = "直方图区间数最大值为100")
+    private Integer bins = 10;
+
+}
@@ -0,0 +1,54 @@
+package com.alibaba.cloud.ai.studio.admin.dto.request;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class ExperimentSignificanceRequest {
+
+    /**
+     * 基准实验ID
+     */
+    @NotNull
+    private Long baseExperimentId;
+
+    /**
+     * 对比实验ID（可选，不传则在同一实验内比较两个评估器）
+     */
+    private Long targetExperimentId;
+
+    /**
+     * 评估器版本ID
+     */
+    @NotNull
+    private Long evaluatorVersionId;
+
+    /**
+     * 对比的评估器版本ID（可选，不传则与 evaluatorVersionId 相同）
+     */
+    private Long targetEvaluatorVersionId;
+
+    /**
+     * 重采样次数
+     */
+    @Min(value = 100, message = "重采样次数最小值为100")
+    @Max(value = 100000, message = "重采样次数最大值为100000")
+    private Integer resamples = 10000;
+
+    /**
+     * 置信水平
+     */
+    @DecimalMin(value = "0.5", message = "置信水平最小值为0.5")
+    @DecimalMax(value = "0.999", message = "置信水平最大值为0.999")
+    private Double confidenceLevel = 0.95;
+
+    /**
+     * 随机种子（可选），固定后结果可复现
+     */
+    private Long seed;
+
+}
@@ -1,5 +1,6 @@
 package com.alibaba.cloud.ai.studio.admin.dto.request;
 
+import com.alibaba.cloud.ai.studio.admin.dto.ChatHistoryPolicy;
 import com.alibaba.cloud.ai.studio.admin.dto.MockTool;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -60,4 +61,9 @@ public class PromptRunRequest {
      * 工具列表
      */
     private List<MockTool> mockTools;
+
+    /**
+     * 历史发送策略（可选），设置后对该会话后续轮次生效
+     */
+    private ChatHistoryPolicy historyPolicy;
 }
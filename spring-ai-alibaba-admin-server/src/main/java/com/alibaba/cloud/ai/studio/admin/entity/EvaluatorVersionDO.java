@@ -12,6 +12,17 @@ import java.time.LocalDateTime;
 @Builder
 @Data
 public class EvaluatorVersionDO {
+
+    /**
+     * 模型评估器，通过模型打分
+     */
+    public static final String EVALUATOR_TYPE_LLM = "llm";
+
+    /**
+     * 内置评估器，在进程内计算确定性指标
+     */
+    public static final String EVALUATOR_TYPE_BUILTIN = "builtin";
+
     /**
      * 主键ID
      */
@@ -34,11 +45,31 @@ public class EvaluatorVersionDO {
      */
     private String version;
 
+    /**
+     * 评估器类型：llm-模型评估（默认），builtin-内置指标
+     */
+    private String evaluatorType;
+
+    /**
+     * 内置指标配置（JSON格式），评估器类型为builtin时必填
+     */
+    private String metricConfig;
+
     /**
      * 模型ID
      */
     private String modelConfig;
 
+    /**
+     * 级联评估配置（JSON格式，可选）
+     */
+    private String cascadeConfig;
+
+    /**
+     * 共识采样配置（JSON格式，可选）
+     */
+    private String consensusConfig;
+
     /**
      * Prompt配置（JSON格式）
      */
@@ -1,12 +1,16 @@
 package com.alibaba.cloud.ai.studio.admin.entity;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class ExperimentDO {
 
     /**
@@ -51,6 +55,21 @@ public class ExperimentDO {
      */
     private String evaluatorConfig;
 
+    /**
+     * 采样配置（JSON格式），为空表示全量执行
+     */
+    private String samplingConfig;
+
+    /**
+     * 基准实验ID：增量实验复用基准实验中相同数据项的评估结果，为空表示普通实验
+     */
+    private Long baseExperimentId;
+
+    /**
+     * 批处理任务ID：批处理模式提交后记录，实验结束时清空，服务重启后据此恢复轮询
+     */
+    private String batchId;
+
     /**
      * 状态：DRAFT-草稿，RUNNING-运行中，COMPLETED-已完成，FAILED-失败，STOPPED-已停止
      */
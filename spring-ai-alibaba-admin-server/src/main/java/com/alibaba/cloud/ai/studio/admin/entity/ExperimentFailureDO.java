@@ -0,0 +1,87 @@
+package com.alibaba.cloud.ai.studio.admin.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 实验失败记录：每个（数据项，来源标识，评估器）组合一条，重复失败时累加尝试次数
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExperimentFailureDO {
+
+    /**
+     * 评测对象阶段失败时 evaluatorVersionId 取该值
+     */
+    public static final Long TARGET_STAGE_EVALUATOR_ID = 0L;
+
+    /**
+     * 不来自数据集的评估项（如Trace回放）datasetItemId 取该值
+     */
+    public static final Long NON_DATASET_ITEM_ID = 0L;
+
+    public static final String STAGE_TARGET = "target";
+
+    public static final String STAGE_EVALUATOR = "evaluator";
+
+    /**
+     * 主键ID
+     */
+    private Long id;
+
+    /**
+     * 实验ID
+     */
+    private Long experimentId;
+
+    /**
+     * 数据项ID
+     */
+    private Long datasetItemId;
+
+    /**
+     * 非数据集评估项的来源标识（Trace回放为 traceId:spanId），数据集评估项为空串
+     */
+    private String sourceKey;
+
+    /**
+     * 评估器版本ID，评测对象阶段失败时为0
+     */
+    private Long evaluatorVersionId;
+
+    /**
+     * 失败阶段：target-评测对象，evaluator-评估器
+     */
+    private String stage;
+
+    /**
+     * 异常类名
+     */
+    private String errorClass;
+
+    /**
+     * 异常信息
+     */
+    private String errorMessage;
+
+    /**
+     * 尝试次数
+     */
+    private Integer attemptCount;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createTime;
+
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updateTime;
+}
@@ -0,0 +1,83 @@
+package com.alibaba.cloud.ai.studio.admin.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 实验数据项的评测对象输出，每个数据项只保存一份，各评估器的结果通过 experimentItemId 引用
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExperimentItemDO {
+
+    /**
+     * 主键ID
+     */
+    private Long id;
+
+    /**
+     * 实验ID
+     */
+    private Long experimentId;
+
+    /**
+     * 数据项ID，评估项不来自数据集（如Trace回放）时为空
+     */
+    private Long datasetItemId;
+
+    /**
+     * 输入内容
+     */
+    private String input;
+
+    /**
+     * 实际输出
+     */
+    private String actualOutput;
+
+    /**
+     * 参考输出
+     */
+    private String referenceOutput;
+
+    /**
+     * 评测对象调用耗时（毫秒）
+     */
+    private Long targetLatencyMs;
+
+    /**
+     * 评测对象输入Token数
+     */
+    private Integer promptTokens;
+
+    /**
+     * 评测对象输出Token数
+     */
+    private Integer completionTokens;
+
+    /**
+     * 评测对象调用的TraceID
+     */
+    private String traceId;
+
+    /**
+     * 评估数据内容（JSON格式），仅评估项不来自数据集（如Trace回放）时保存，追加评估器时据此还原评估变量
+     */
+    private String dataContent;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createTime;
+
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updateTime;
+}
@@ -1,13 +1,17 @@
 package com.alibaba.cloud.ai.studio.admin.entity;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class ExperimentResultDO {
 
     /**
@@ -20,6 +24,16 @@ public class ExperimentResultDO {
      */
     private Long experimentId;
 
+    /**
+     * 实验数据项ID，输入、输出及评测对象调用指标保存在实验数据项表中，查询时关联读取
+     */
+    private Long experimentItemId;
+
+    /**
+     * 数据项ID
+     */
+    private Long datasetItemId;
+
     /**
      * 输入内容
      */
@@ -55,6 +69,46 @@ public class ExperimentResultDO {
      */
     private Long evaluatorVersionId;
 
+    /**
+     * 评测对象调用耗时（毫秒）
+     */
+    private Long targetLatencyMs;
+
+    /**
+     * 评估器调用耗时（毫秒）
+     */
+    private Long judgeLatencyMs;
+
+    /**
+     * 评测对象输入Token数
+     */
+    private Integer promptTokens;
+
+    /**
+     * 评测对象输出Token数
+     */
+    private Integer completionTokens;
+
+    /**
+     * 评估器消耗的Token总数
+     */
+    private Integer judgeTokens;
+
+    /**
+     * 评测对象调用的TraceID
+     */
+    private String traceId;
+
+    /**
+     * 共识评估的采样次数
+     */
+    private Integer judgeSamples;
+
+    /**
+     * 共识评估得分的样本方差
+     */
+    private Double scoreVariance;
+
     /**
      * 创建时间
      */
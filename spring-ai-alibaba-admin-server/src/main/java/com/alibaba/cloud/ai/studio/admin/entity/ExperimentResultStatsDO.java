@@ -0,0 +1,73 @@
+package com.alibaba.cloud.ai.studio.admin.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 实验结果按评估器聚合后的统计信息
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExperimentResultStatsDO {
+
+    /**
+     * 评估器版本ID
+     */
+    private Long evaluatorVersionId;
+
+    /**
+     * 结果数量
+     */
+    private Integer resultCount;
+
+    /**
+     * 平均得分
+     */
+    private BigDecimal avgScore;
+
+    /**
+     * 得分样本标准差
+     */
+    private Double stddevScore;
+
+    /**
+     * 评测对象耗时P50（毫秒）
+     */
+    private Long targetLatencyP50;
+
+    /**
+     * 评测对象耗时P95（毫秒）
+     */
+    private Long targetLatencyP95;
+
+    /**
+     * 评估器耗时P50（毫秒）
+     */
+    private Long judgeLatencyP50;
+
+    /**
+     * 评估器耗时P95（毫秒）
+     */
+    private Long judgeLatencyP95;
+
+    /**
+     * 评测对象输入Token总数
+     */
+    private Long promptTokens;
+
+    /**
+     * 评测对象输出Token总数
+     */
+    private Long completionTokens;
+
+    /**
+     * 评估器Token总数
+     */
+    private Long judgeTokens;
+}
@@ -0,0 +1,33 @@
+package com.alibaba.cloud.ai.studio.admin.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 实验结果按评估器和得分分组的数量
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExperimentScoreCountDO {
+
+    /**
+     * 评估器版本ID
+     */
+    private Long evaluatorVersionId;
+
+    /**
+     * 得分
+     */
+    private BigDecimal score;
+
+    /**
+     * 结果数量
+     */
+    private Long resultCount;
+}
@@ -0,0 +1,84 @@
+package com.alibaba.cloud.ai.studio.admin.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 实验按评估器物化的汇总统计，实验结束时刷新，供列表接口批量读取
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExperimentSummaryDO {
+
+    /**
+     * 得分不低于该值的结果计为通过
+     */
+    public static final BigDecimal PASS_SCORE_THRESHOLD = new BigDecimal("0.5");
+
+    /**
+     * 主键ID
+     */
+    private Long id;
+
+    /**
+     * 实验ID
+     */
+    private Long experimentId;
+
+    /**
+     * 评估器版本ID
+     */
+    private Long evaluatorVersionId;
+
+    /**
+     * 结果数量
+     */
+    private Integer resultCount;
+
+    /**
+     * 平均得分
+     */
+    private BigDecimal avgScore;
+
+    /**
+     * 通过数量
+     */
+    private Integer passCount;
+
+    /**
+     * 评测对象输入Token总数
+     */
+    private Long promptTokens;
+
+    /**
+     * 评测对象输出Token总数
+     */
+    private Long completionTokens;
+
+    /**
+     * 评估器Token总数
+     */
+    private Long judgeTokens;
+
+    /**
+     * 得分直方图（稀疏JSON，键为得分*100，值为结果数量）
+     */
+    private String scoreHistogram;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createTime;
+
+    /**
+     * 更新时间
+     */
+    private LocalDateTime updateTime;
+}
@@ -7,6 +7,7 @@ import org.apache.ibatis.annotations.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -98,4 +99,12 @@ public interface DatasetVersionMapper {
 
 
     DatasetVersionDO selectLatestVersion(@Param("datasetId") Long datasetId);
+
+    /**
+     * 批量获取每个数据集的最新版本
+     *
+     * @param datasetIds 数据集ID列表
+     * @return 每个数据集最多一条最新版本
+     */
+    List<DatasetVersionDO> selectLatestVersionsByDatasetIds(@Param("datasetIds") Collection<Long> datasetIds);
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -35,6 +36,14 @@ public interface EvaluatorMapper {
      */
     EvaluatorDO selectById(@Param("id") Long id);
 
+    /**
+     * 根据ID列表批量获取评估器
+     *
+     * @param ids 评估器ID列表
+     * @return 评估器列表
+     */
+    List<EvaluatorDO> selectByIds(@Param("ids") Collection<Long> ids);
+
     /**
      * 分页查询评估器列表
      *
@@ -5,6 +5,7 @@ import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -58,6 +59,14 @@ public interface EvaluatorVersionMapper {
      */
     EvaluatorVersionDO selectLatestVersionByEvaluatorId(@Param("evaluatorId") Long evaluatorId);
 
+    /**
+     * 批量获取每个评估器的最新版本
+     *
+     * @param evaluatorIds 评估器ID列表
+     * @return 每个评估器最多一条最新版本
+     */
+    List<EvaluatorVersionDO> selectLatestVersionsByEvaluatorIds(@Param("evaluatorIds") Collection<Long> evaluatorIds);
+
     /**
      * 根据评估器ID统计评估器版本数量
      *
@@ -0,0 +1,49 @@
+package com.alibaba.cloud.ai.studio.admin.mapper;
+
+import com.alibaba.cloud.ai.studio.admin.entity.ExperimentFailureDO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Mapper
+@Repository
+public interface ExperimentFailureMapper {
+
+    /**
+     * 记录失败，已存在时累加尝试次数并覆盖异常信息
+     *
+     * @param failure 失败记录
+     * @return 受影响的行数
+     */
+    int upsert(ExperimentFailureDO failure);
+
+    /**
+     * 查询实验的全部失败记录
+     *
+     * @param experimentId 实验ID
+     * @return 失败记录列表
+     */
+    List<ExperimentFailureDO> selectByExperimentId(@Param("experimentId") Long experimentId);
+
+    /**
+     * 删除指定（数据项，评估器）的失败记录
+     *
+     * @param experimentId 实验ID
+     * @param datasetItemId 数据项ID
+     * @param evaluatorVersionId 评估器版本ID
+     * @return 受影响的行数
+     */
+    int delete(@Param("experimentId") Long experimentId,
+               @Param("datasetItemId") Long datasetItemId,
+               @Param("evaluatorVersionId") Long evaluatorVersionId);
+
+    /**
+     * 删除实验的全部失败记录
+     *
+     * @param experimentId 实验ID
+     * @return 受影响的行数
+     */
+    int deleteByExperimentId(@Param("experimentId") Long experimentId);
+}
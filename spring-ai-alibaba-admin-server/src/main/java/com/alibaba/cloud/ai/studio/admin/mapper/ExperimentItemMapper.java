@@ -0,0 +1,92 @@
+package com.alibaba.cloud.ai.studio.admin.mapper;
+
+import com.alibaba.cloud.ai.studio.admin.entity.ExperimentItemDO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+@Repository
+public interface ExperimentItemMapper {
+
+    /**
+     * 创建实验数据项
+     *
+     * @param experimentItem 实验数据项实体
+     * @return 受影响的行数
+     */
+    int insert(ExperimentItemDO experimentItem);
+
+    /**
+     * 查询数据项已保存的评测对象输出，用于重跑时复用
+     *
+     * @param experimentId 实验ID
+     * @param datasetItemId 数据项ID
+     * @return 实验数据项，不存在时返回null
+     */
+    ExperimentItemDO selectByDatasetItemId(@Param("experimentId") Long experimentId,
+                                           @Param("datasetItemId") Long datasetItemId);
+
+    /**
+     * 查询实验已保存数据项对应的数据集数据项ID
+     *
+     * @param experimentId 实验ID
+     * @return 数据集数据项ID列表
+     */
+    List<Long> selectDatasetItemIdsByExperimentId(@Param("experimentId") Long experimentId);
+
+    /**
+     * 查询实验数据项的最大ID
+     *
+     * @param experimentId 实验ID
+     * @return 最大ID，没有数据项时返回null
+     */
+    Long selectMaxIdByExperimentId(@Param("experimentId") Long experimentId);
+
+    /**
+     * 按ID升序分页（keyset）查询实验数据项ID，查询范围为 (lastId, maxId]
+     *
+     * @param experimentId 实验ID
+     * @param lastId 上一页最后一个ID
+     * @param maxId ID上界
+     * @param limit 限制数量
+     * @return 实验数据项ID列表
+     */
+    List<Long> selectIdsAfterId(@Param("experimentId") Long experimentId,
+                                @Param("lastId") Long lastId,
+                                @Param("maxId") Long maxId,
+                                @Param("limit") int limit);
+
+    /**
+     * 根据ID批量查询实验数据项
+     *
+     * @param ids 实验数据项ID列表
+     * @return 实验数据项列表，按ID升序
+     */
+    List<ExperimentItemDO> selectByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 将基准实验中指定数据项的评测对象输出复制到目标实验，只复制在指定评估器版本下有结果的数据项
+     *
+     * @param experimentId 目标实验ID
+     * @param baseExperimentId 基准实验ID
+     * @param evaluatorVersionIds 评估器版本ID列表
+     * @param itemIds 数据项ID列表
+     * @return 复制的行数
+     */
+    int copyFromExperiment(@Param("experimentId") Long experimentId,
+                           @Param("baseExperimentId") Long baseExperimentId,
+                           @Param("evaluatorVersionIds") List<Long> evaluatorVersionIds,
+                           @Param("itemIds") List<Long> itemIds);
+
+    /**
+     * 根据实验ID删除实验数据项
+     *
+     * @param experimentId 实验ID
+     * @return 受影响的行数
+     */
+    int deleteByExperimentId(@Param("experimentId") Long experimentId);
+}
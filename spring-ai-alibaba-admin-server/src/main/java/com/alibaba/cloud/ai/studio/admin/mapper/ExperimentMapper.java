@@ -130,4 +130,20 @@ public interface ExperimentMapper {
      */
     int selectCountByEvaluatorVersionId(@Param("evaluatorVersionId") Long evaluatorVersionId);
 
+    /**
+     * 更新实验的批处理任务ID
+     *
+     * @param id 实验ID
+     * @param batchId 批处理任务ID，为空时清空
+     * @return 受影响的行数
+     */
+    int updateBatchId(@Param("id") Long id, @Param("batchId") String batchId);
+
+    /**
+     * 查询运行中且已提交批处理任务的实验，用于服务重启后恢复轮询
+     *
+     * @return 实验列表
+     */
+    List<ExperimentDO> selectRunningBatchExperiments();
+
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.alibaba.cloud.ai.studio.admin.mapper;
 
 import com.alibaba.cloud.ai.studio.admin.entity.ExperimentResultDO;
+import com.alibaba.cloud.ai.studio.admin.entity.ExperimentResultStatsDO;
+import com.alibaba.cloud.ai.studio.admin.entity.ExperimentScoreCountDO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -72,6 +75,56 @@ public interface ExperimentResultMapper {
             @Param("offset") long offset,
             @Param("limit") int limit);
 
+    /**
+     * 按评估器聚合实验结果（数量、平均分、标准差）
+     *
+     * @param experimentId 实验ID
+     * @return 各评估器的统计信息
+     */
+    List<ExperimentResultStatsDO> selectStatsByExperimentId(@Param("experimentId") Long experimentId);
+
+    /**
+     * 按评估器和得分分组统计结果数量
+     *
+     * @param experimentId 实验ID
+     * @param evaluatorVersionId 评估器版本ID（可选）
+     * @return 分组数量列表
+     */
+    List<ExperimentScoreCountDO> selectScoreCounts(@Param("experimentId") Long experimentId,
+                                                   @Param("evaluatorVersionId") Long evaluatorVersionId);
+
+    /**
+     * 查询实验已有结果的（数据项，评估器）组合，仅返回 datasetItemId 与 evaluatorVersionId
+     *
+     * @param experimentId 实验ID
+     * @return 已评估的组合列表
+     */
+    List<ExperimentResultDO> selectEvaluatedPairs(@Param("experimentId") Long experimentId);
+
+    /**
+     * 将基准实验中指定数据项、指定评估器版本的结果复制到目标实验，需先复制对应的实验数据项
+     *
+     * @param experimentId 目标实验ID
+     * @param baseExperimentId 基准实验ID
+     * @param evaluatorVersionIds 评估器版本ID列表
+     * @param itemIds 数据项ID列表
+     * @return 复制的行数
+     */
+    int copyFromExperiment(@Param("experimentId") Long experimentId,
+                           @Param("baseExperimentId") Long baseExperimentId,
+                           @Param("evaluatorVersionIds") List<Long> evaluatorVersionIds,
+                           @Param("itemIds") List<Long> itemIds);
+
+    /**
+     * 流式查询实验结果，按ID升序逐行返回，用于导出
+     *
+     * @param experimentId 实验ID
+     * @param evaluatorVersionId 评估器版本ID，为空时查询全部评估器
+     * @return 实验结果游标
+     */
+    Cursor<ExperimentResultDO> selectCursorByExperimentId(
+            @Param("experimentId") Long experimentId,
+            @Param("evaluatorVersionId") Long evaluatorVersionId);
 
 
 
@@ -83,5 +136,15 @@ public interface ExperimentResultMapper {
      */
     int updateById(ExperimentResultDO experimentResult);
 
+    /**
+     * 流式查询实验在指定评估器下的结果，按数据项ID升序，用于实验间按数据项对比
+     *
+     * @param experimentId 实验ID
+     * @param evaluatorVersionId 评估器版本ID
+     * @return 实验结果游标（仅包含 id、dataset_item_id、score、evaluator_version_id）
+     */
+    Cursor<ExperimentResultDO> selectCursorOrderByItem(
+            @Param("experimentId") Long experimentId,
+            @Param("evaluatorVersionId") Long evaluatorVersionId);
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package com.alibaba.cloud.ai.studio.admin.mapper;
+
+import com.alibaba.cloud.ai.studio.admin.entity.ExperimentSummaryDO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+@Repository
+public interface ExperimentSummaryMapper {
+
+    /**
+     * 按实验结果重新聚合并写入汇总表
+     *
+     * @param experimentId 实验ID
+     * @param passThreshold 通过分数线
+     * @return 受影响的行数
+     */
+    int refreshByExperimentId(@Param("experimentId") Long experimentId,
+                              @Param("passThreshold") BigDecimal passThreshold);
+
+    /**
+     * 按实验结果刷新汇总表中的得分直方图，需在 refreshByExperimentId 之后调用
+     *
+     * @param experimentId 实验ID
+     * @return 受影响的行数
+     */
+    int refreshHistogramByExperimentId(@Param("experimentId") Long experimentId);
+
+    /**
+     * 批量查询实验汇总
+     *
+     * @param experimentIds 实验ID列表
+     * @return 汇总列表
+     */
+    List<ExperimentSummaryDO> selectByExperimentIds(@Param("experimentIds") Collection<Long> experimentIds);
+
+    /**
+     * 删除实验汇总
+     *
+     * @param experimentId 实验ID
+     * @return 受影响的行数
+     */
+    int deleteByExperimentId(@Param("experimentId") Long experimentId);
+}
@@ -13,6 +13,13 @@ public interface TracingRepository {
      */
     PageResult<TraceSpanDTO> queryTraces(TracesQueryRequest request);
 
+    /**
+     * 按游标顺序遍历Traces（search_after），用于批量拉取
+     *
+     * @param searchAfter 上一页返回的游标，首次查询传null
+     */
+    TraceScrollPage scrollTraces(TracesQueryRequest request, java.util.List<Object> searchAfter);
+
     /**
      * 根据TraceId查询Trace详情
      */
@@ -6,6 +6,7 @@ import com.alibaba.cloud.ai.studio.admin.dto.request.TracesQueryRequest;
 import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -14,6 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -29,6 +31,39 @@ public class TracingQueryBuilder {
      * 构建Traces查询请求
      */
     public SearchRequest buildTracesQuery(TracesQueryRequest request) {
+        // 构建搜索请求
+        SearchRequest.Builder searchBuilder = new SearchRequest.Builder()
+            .index(TRACES_INDEX)
+            .query(buildTracesFilter(request))
+            .from((request.getPageNumber() - 1) * request.getPageSize())
+            .size(request.getPageSize())
+            .sort(s -> s.field(f -> f.field("metadata.start").order(SortOrder.Desc)));
+
+        return searchBuilder.build();
+    }
+
+    /**
+     * 构建Traces游标查询请求，按开始时间和SpanID升序排列，使用 search_after 翻页以避免深度分页
+     */
+    public SearchRequest buildTracesScrollQuery(TracesQueryRequest request, List<FieldValue> searchAfter) {
+        SearchRequest.Builder searchBuilder = new SearchRequest.Builder()
+            .index(TRACES_INDEX)
+            .query(buildTracesFilter(request))
+            .size(request.getPageSize())
+            .trackTotalHits(t -> t.enabled(true))
+            .sort(s -> s.field(f -> f.field("metadata.start").order(SortOrder.Asc)))
+            .sort(s -> s.field(f -> f.field("metadata.spanID").order(SortOrder.Asc)));
+
+        if (searchAfter != null && !searchAfter.isEmpty()) {
+            searchBuilder.searchAfter(searchAfter);
+        }
+        return searchBuilder.build();
+    }
+
+    /**
+     * 构建Traces过滤条件
+     */
+    private Query buildTracesFilter(TracesQueryRequest request) {
         BoolQuery.Builder boolQueryBuilder = new BoolQuery.Builder();
 
         // 时间范围过滤 - 使用微秒时间戳
@@ -89,15 +124,7 @@ public class TracingQueryBuilder {
             addAttributesFilter(boolQueryBuilder, request.getAttributes());
         }
 
-        // 构建搜索请求
-        SearchRequest.Builder searchBuilder = new SearchRequest.Builder()
-            .index(TRACES_INDEX)
-            .query(Query.of(q -> q.bool(boolQueryBuilder.build())))
-            .from((request.getPageNumber() - 1) * request.getPageSize())
-            .size(request.getPageSize())
-            .sort(s -> s.field(f -> f.field("metadata.start").order(SortOrder.Desc)));
-
-        return searchBuilder.build();
+        return Query.of(q -> q.bool(boolQueryBuilder.build()));
     }
 
     /**
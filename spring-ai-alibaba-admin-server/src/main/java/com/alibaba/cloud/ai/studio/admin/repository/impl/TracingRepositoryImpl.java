@@ -11,6 +11,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
 import co.elastic.clients.elasticsearch._types.aggregations.CardinalityAggregate;
 import co.elastic.clients.elasticsearch._types.aggregations.ValueCountAggregate;
@@ -45,6 +47,35 @@ public class TracingRepositoryImpl implements TracingRepository {
         return buildPageResult(response, spans, request);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public TraceScrollPage scrollTraces(TracesQueryRequest request, List<Object> searchAfter) {
+        log.debug("游标查询Traces: {}, searchAfter={}", request, searchAfter);
+
+        List<FieldValue> searchAfterValues = searchAfter == null ? null
+            : searchAfter.stream().map(this::toFieldValue).collect(Collectors.toList());
+        SearchRequest searchRequest = queryBuilder.buildTracesScrollQuery(request, searchAfterValues);
+        SearchResponse<Map> response = elasticsearchClient.search(TRACES_INDEX, searchRequest);
+
+        List<Hit<Map>> hits = response.hits().hits();
+        List<TraceSpanDTO> spans = hits.stream()
+            .map(hit -> convertToTraceSpanDTO((Map<String, Object>) hit.source()))
+            .collect(Collectors.toList());
+
+        List<Object> nextSearchAfter = null;
+        if (hits.size() >= request.getPageSize()) {
+            nextSearchAfter = hits.get(hits.size() - 1).sort().stream()
+                .map(FieldValue::_get)
+                .collect(Collectors.toList());
+        }
+
+        return TraceScrollPage.builder()
+            .totalCount(elasticsearchClient.getTotalHits(response))
+            .spans(spans)
+            .nextSearchAfter(nextSearchAfter)
+            .build();
+    }
+
     @Override
     public TraceDetailDTO getTraceDetail(String traceId) {
         log.info("查询Trace详情: {}", traceId);
@@ -210,6 +241,22 @@ public class TracingRepositoryImpl implements TracingRepository {
         return result;
     }
 
+    /**
+     * 游标值还原为 FieldValue
+     */
+    private FieldValue toFieldValue(Object value) {
+        if (value instanceof Number number) {
+            if (value instanceof Double || value instanceof Float) {
+                return FieldValue.of(number.doubleValue());
+            }
+            return FieldValue.of(number.longValue());
+        }
+        if (value instanceof Boolean bool) {
+            return FieldValue.of(bool);
+        }
+        return FieldValue.of(String.valueOf(value));
+    }
+
     /**
      * 将微秒时间戳转换为ISO8601格式
      */
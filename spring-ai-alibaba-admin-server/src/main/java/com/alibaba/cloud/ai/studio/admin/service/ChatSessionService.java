@@ -38,15 +38,6 @@ public interface ChatSessionService {
     ChatSession createSessionWithMockTools(String promptKey, String version, String template, String variables, String modelConfig, List<MockTool> mockTools);
 
 
-    /**
-     * 创建新会话
-     *
-     * @param variables   变量配置
-     * @param modelConfig 模型配置
-     * @return 会话对象
-     */
-    ChatSession createEvaluatorSession(String prompt, String variables, String modelConfig);
-    
     /**
      * 获取会话
      *
@@ -1,12 +1,15 @@
 package com.alibaba.cloud.ai.studio.admin.service;
 
 import com.alibaba.cloud.ai.studio.admin.common.PageResult;
+import com.alibaba.cloud.ai.studio.admin.dto.EvaluatorBatchDebugEvent;
 import com.alibaba.cloud.ai.studio.admin.dto.EvaluatorDebugResult;
+import com.alibaba.cloud.ai.studio.admin.dto.request.EvaluatorBatchDebugRequest;
 import com.alibaba.cloud.ai.studio.admin.dto.request.EvaluatorCreateRequest;
 import com.alibaba.cloud.ai.studio.admin.dto.request.EvaluatorListRequest;
 import com.alibaba.cloud.ai.studio.admin.dto.request.EvaluatorTestRequest;
 import com.alibaba.cloud.ai.studio.admin.dto.Evaluator;
 import com.alibaba.cloud.ai.studio.admin.dto.request.EvaluatorUpdateRequest;
+import reactor.core.publisher.Flux;
 
 import java.util.Map;
 
@@ -42,5 +45,10 @@ public interface EvaluatorService {
      */
     EvaluatorDebugResult debug(EvaluatorTestRequest request);
 
+    /**
+     * 批量调试评估器，按完成顺序流式返回每个用例的结果，最后返回一致性汇总
+     */
+    Flux<EvaluatorBatchDebugEvent> batchDebug(EvaluatorBatchDebugRequest request);
+
 
 } 
\ No newline at end of file
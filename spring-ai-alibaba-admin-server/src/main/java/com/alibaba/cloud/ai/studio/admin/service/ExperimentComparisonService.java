@@ -0,0 +1,19 @@
+package com.alibaba.cloud.ai.studio.admin.service;
+
+import com.alibaba.cloud.ai.studio.admin.dto.ExperimentComparison;
+import com.alibaba.cloud.ai.studio.admin.dto.ExperimentSignificance;
+import com.alibaba.cloud.ai.studio.admin.dto.request.ExperimentCompareRequest;
+import com.alibaba.cloud.ai.studio.admin.dto.request.ExperimentSignificanceRequest;
+
+public interface ExperimentComparisonService {
+
+    /**
+     * 按数据项对比两个实验的评估结果
+     */
+    ExperimentComparison compare(ExperimentCompareRequest request);
+
+    /**
+     * 配对Bootstrap显著性检验：比较两个实验，或同一实验下的两个评估器
+     */
+    ExperimentSignificance significance(ExperimentSignificanceRequest request);
+}
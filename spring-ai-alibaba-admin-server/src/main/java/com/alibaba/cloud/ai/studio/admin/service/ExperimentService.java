@@ -4,11 +4,19 @@ import com.alibaba.cloud.ai.studio.admin.common.PageResult;
 import com.alibaba.cloud.ai.studio.admin.dto.Experiment;
 import com.alibaba.cloud.ai.studio.admin.dto.ExperimentEvaluatorResult;
 import com.alibaba.cloud.ai.studio.admin.dto.ExperimentEvaluatorResultDetail;
+import com.alibaba.cloud.ai.studio.admin.dto.ExperimentFailure;
+import com.alibaba.cloud.ai.studio.admin.dto.ExperimentScoreDistribution;
 import com.alibaba.cloud.ai.studio.admin.dto.request.ExperimentCreateRequest;
+import com.alibaba.cloud.ai.studio.admin.dto.request.ExperimentEvaluatorAppendRequest;
 import com.alibaba.cloud.ai.studio.admin.dto.request.ExperimentEvaluatorResultDetailListRequest;
 import com.alibaba.cloud.ai.studio.admin.dto.request.ExperimentListRequest;
+import com.alibaba.cloud.ai.studio.admin.dto.request.ExperimentResultExportRequest;
+import com.alibaba.cloud.ai.studio.admin.dto.request.ExperimentScoreDistributionRequest;
 import com.alibaba.cloud.ai.studio.admin.dto.request.EvaluatorExperimentsListRequest;
+import com.alibaba.cloud.ai.studio.admin.entity.ExperimentDO;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -29,12 +37,22 @@ public interface ExperimentService {
      */
     Experiment getById(Long id);
 
+    /**
+     * 批量加载实验汇总并转换为DTO，一页实验只查询一次汇总表
+     */
+    List<Experiment> toExperimentsWithSummaries(List<ExperimentDO> experimentDOList);
+
 
     List<ExperimentEvaluatorResult> getResults(Long ExperimentId);
 
 
     PageResult<ExperimentEvaluatorResultDetail> getResult(ExperimentEvaluatorResultDetailListRequest request);
 
+    /**
+     * 流式导出实验结果（CSV/JSONL），逐行写入输出流
+     */
+    void exportResults(ExperimentResultExportRequest request, OutputStream outputStream) throws IOException;
+
 
 
     /**
@@ -53,6 +71,26 @@ public interface ExperimentService {
      */
     void restartById(Long id);
 
+    /**
+     * 只重跑失败或缺失的（数据项，评估器）组合
+     */
+    void rerunFailed(Long id);
+
+    /**
+     * 为已结束的实验追加评估器，复用已有的实际输出，只执行新评估器
+     */
+    Experiment appendEvaluators(ExperimentEvaluatorAppendRequest request);
+
+    /**
+     * 获取实验失败项
+     */
+    List<ExperimentFailure> getFailures(Long experimentId);
+
+    /**
+     * 获取实验中各评估器的得分分布（直方图、分位数、通过率）
+     */
+    List<ExperimentScoreDistribution> getScoreDistribution(ExperimentScoreDistributionRequest request);
+
     /**
      * 获取使用指定评估器的实验列表
      *
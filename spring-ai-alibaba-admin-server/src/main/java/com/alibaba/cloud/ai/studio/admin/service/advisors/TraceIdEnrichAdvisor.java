@@ -34,6 +34,14 @@ public class TraceIdEnrichAdvisor implements BaseAdvisor {
     @Override
     public ChatClientResponse after(ChatClientResponse chatClientResponse,
             AdvisorChain advisorChain) {
+        // 同步调用时ChatClient的观测在当前线程中处于打开状态
+        Observation observation = registry.getCurrentObservation();
+        if (observation != null) {
+            TracingObservationHandler.TracingContext traceContext = observation.getContext().getOrDefault(TracingContext.class, () -> null);
+            if (traceContext != null && traceContext.getSpan() != null) {
+                chatClientResponse.context().put("traceId", traceContext.getSpan().context().traceId());
+            }
+        }
         return chatClientResponse;
     }
     
@@ -2,8 +2,12 @@ package com.alibaba.cloud.ai.studio.admin.service.client;
 
 import com.alibaba.cloud.ai.studio.admin.entity.ModelConfigDO;
 import com.alibaba.cloud.ai.studio.admin.repository.ModelConfigRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.micrometer.observation.ObservationRegistry;
+import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.client.advisor.api.Advisor;
@@ -13,9 +17,11 @@ import org.springframework.ai.chat.prompt.ChatOptions;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 @Slf4j
 @Component
@@ -30,6 +36,14 @@ public class ChatClientFactoryDelegate {
     private final ObservationRegistry observationRegistry;
 
     private final ChatClientObservationConvention customObservationConvention;
+
+    /**
+     * 无会话调用共享的ChatClient，按 (模型配置, 参数, 观测元数据) 复用
+     */
+    private final Cache<String, SharedChatClient> sharedChatClients = Caffeine.newBuilder()
+            .maximumSize(256)
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .build();
     
     public ChatClientFactoryDelegate(ModelConfigRepository modelConfigRepository, ObjectMapper objectMapper,
             ObservationRegistry observationRegistry,
@@ -56,6 +70,35 @@ public class ChatClientFactoryDelegate {
         return List.copyOf(chatClientFactories.keySet());
     }
     
+    /**
+     * 获取共享的ChatClient，适用于不需要会话历史的单轮调用（如评估器）。
+     * 模型配置热更新后配置实例变化，对应的客户端自动重建
+     */
+    public ChatClient getSharedChatClient(Long modelConfigId, Map<String, Object> userParameters,
+            Map<String, String> observationMetadata) {
+        ModelConfigDO config = modelConfigRepository.findById(modelConfigId);
+        String key = sharedClientKey(modelConfigId, userParameters, observationMetadata);
+        SharedChatClient shared = sharedChatClients.getIfPresent(key);
+        if (shared != null && shared.config == config) {
+            return shared.chatClient;
+        }
+        return sharedChatClients.asMap().compute(key, (k, existing) -> existing != null && existing.config == config
+                ? existing
+                : new SharedChatClient(config, createChatClient(modelConfigId, userParameters, observationMetadata)))
+                .chatClient;
+    }
+    
+    private String sharedClientKey(Long modelConfigId, Map<String, Object> userParameters,
+            Map<String, String> observationMetadata) {
+        try {
+            return modelConfigId + ":"
+                    + objectMapper.writeValueAsString(userParameters != null ? new TreeMap<>(userParameters) : Map.of()) + ":"
+                    + objectMapper.writeValueAsString(observationMetadata != null ? new TreeMap<>(observationMetadata) : Map.of());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("模型参数无法序列化: " + e.getMessage(), e);
+        }
+    }
+    
     public ChatClient createChatClient(Long modelConfigId, Map<String, Object> userParameters) {
         return createChatClient(modelConfigId, userParameters, null,null);
     }
@@ -128,4 +171,12 @@ public class ChatClientFactoryDelegate {
         log.debug("合并后的参数: {}", mergedParameters);
         return mergedParameters;
     }
+    
+    @AllArgsConstructor
+    private static class SharedChatClient {
+        
+        private final ModelConfigDO config;
+        
+        private final ChatClient chatClient;
+    }
 }
@@ -0,0 +1,154 @@
+package com.alibaba.cloud.ai.studio.admin.service.client;
+
+import com.alibaba.cloud.ai.studio.admin.dto.EvaluationHttpConfig;
+import com.alibaba.cloud.ai.studio.admin.dto.EvaluationTargetOutput;
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONObject;
+import com.alibaba.fastjson.JSONPath;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * HTTP评测对象客户端：共用一个非阻塞 HttpClient 连接池，按请求地址限制并发
+ */
+@Slf4j
+@Component
+public class HttpEvaluationClient {
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    /**
+     * 每个请求地址一个并发许可，跨实验共享，许可数取最近一次调用的配置
+     */
+    private final Map<String, EndpointLimiter> endpointLimiters = new ConcurrentHashMap<>();
+
+    /**
+     * 异步调用评测对象，获取许可时阻塞调用线程，请求完成后释放许可
+     */
+    public CompletableFuture<EvaluationTargetOutput> invoke(EvaluationHttpConfig config, JSONObject dataContent) {
+        int maxConcurrency = Math.max(1, config.getMaxConcurrency());
+        EndpointLimiter permits = endpointLimiters.computeIfAbsent(config.getUrl(), url -> new EndpointLimiter(maxConcurrency));
+        permits.resize(maxConcurrency);
+        HttpRequest request;
+        try {
+            request = buildRequest(config, dataContent);
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long start = System.currentTimeMillis();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                .whenComplete((response, error) -> permits.release())
+                .thenApply(response -> EvaluationTargetOutput.builder()
+                        .content(extractOutput(config, response))
+                        .latencyMs(System.currentTimeMillis() - start)
+                        .traceId(extractTraceId(response))
+                        .build());
+    }
+
+    /**
+     * 同步调用评测对象，用于重跑等逐条执行的场景
+     */
+    public EvaluationTargetOutput call(EvaluationHttpConfig config, JSONObject dataContent) {
+        try {
+            return invoke(config, dataContent).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause != null ? cause.getMessage() : e.getMessage(), cause);
+        }
+    }
+
+    private HttpRequest buildRequest(EvaluationHttpConfig config, JSONObject dataContent) {
+        JSONObject body;
+        if (config.getRequestMapping() == null || config.getRequestMapping().isEmpty()) {
+            body = dataContent;
+        } else {
+            body = new JSONObject();
+            config.getRequestMapping().forEach((field, column) -> body.put(field, dataContent.get(column)));
+        }
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(config.getUrl()))
+                .timeout(Duration.ofMillis(config.getTimeoutMs()))
+                .header("Content-Type", "application/json")
+                .method(config.getMethod().toUpperCase(),
+                        HttpRequest.BodyPublishers.ofString(body.toJSONString(), StandardCharsets.UTF_8));
+        // 用户配置的请求头覆盖默认值（请求头名不区分大小写）
+        if (config.getHeaders() != null) {
+            config.getHeaders().forEach(builder::setHeader);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 服务端返回 W3C traceparent 响应头时从中取TraceID
+     */
+    private String extractTraceId(HttpResponse<String> response) {
+        return response.headers().firstValue("traceparent")
+                .map(value -> value.split("-"))
+                .filter(parts -> parts.length >= 2)
+                .map(parts -> parts[1])
+                .orElse(null);
+    }
+
+    private String extractOutput(EvaluationHttpConfig config, HttpResponse<String> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new CompletionException(new IOException(
+                    "评测对象调用失败: HTTP " + response.statusCode() + ", " + response.body()));
+        }
+        if (!StringUtils.hasText(config.getResponsePath())) {
+            return response.body();
+        }
+        Object value = JSONPath.eval(JSON.parse(response.body()), config.getResponsePath());
+        if (value == null) {
+            throw new CompletionException(new IllegalStateException(
+                    "响应中不存在字段: " + config.getResponsePath()));
+        }
+        return value instanceof String text ? text : JSON.toJSONString(value);
+    }
+
+    /**
+     * 可调整许可数的信号量：调小时在途请求不受影响，释放后可用许可才降到新的上限以内
+     */
+    private static final class EndpointLimiter extends Semaphore {
+
+        private int limit;
+
+        EndpointLimiter(int limit) {
+            super(limit);
+            this.limit = limit;
+        }
+
+        synchronized void resize(int newLimit) {
+            if (newLimit > limit) {
+                release(newLimit - limit);
+            } else if (newLimit < limit) {
+                reducePermits(limit - newLimit);
+            }
+            limit = newLimit;
+        }
+    }
+}
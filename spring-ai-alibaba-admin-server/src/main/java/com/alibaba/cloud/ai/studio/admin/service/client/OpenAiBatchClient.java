@@ -0,0 +1,278 @@
+package com.alibaba.cloud.ai.studio.admin.service.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * OpenAI兼容的 Batch API 客户端：上传JSONL请求文件、创建批处理任务、查询状态并流式读取结果文件
+ *
+ * @see OpenAiChatClientFactory#buildBatchClient
+ */
+@Slf4j
+public class OpenAiBatchClient {
+
+    private static final String DEFAULT_BASE_URL = "https://api.openai.com";
+
+    private static final String COMPLETIONS_ENDPOINT = "/v1/chat/completions";
+
+    private static final Set<String> TERMINAL_STATUSES = Set.of("completed", "failed", "expired", "cancelled");
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(5);
+
+    private final HttpClient httpClient;
+
+    private final ObjectMapper objectMapper;
+
+    private final String baseUrl;
+
+    private final String apiKey;
+
+    private final String modelName;
+
+    public OpenAiBatchClient(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl, String apiKey,
+            String modelName) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = StringUtils.hasText(baseUrl) ? baseUrl.replaceAll("/+$", "") : DEFAULT_BASE_URL;
+        this.apiKey = apiKey;
+        this.modelName = modelName;
+    }
+
+    /**
+     * 单条批处理请求
+     */
+    @Data
+    @AllArgsConstructor
+    public static class BatchRequest {
+
+        /**
+         * 请求标识，结果文件中按该值回填
+         */
+        private String customId;
+
+        /**
+         * 对话消息，元素包含 role 与 content
+         */
+        private List<Map<String, String>> messages;
+    }
+
+    /**
+     * 批处理任务状态
+     */
+    @Data
+    @NoArgsConstructor
+    public static class BatchStatus {
+
+        private String id;
+
+        private String status;
+
+        private String outputFileId;
+
+        private String errorFileId;
+
+        private int total;
+
+        private int completed;
+
+        private int failed;
+
+        public boolean isTerminal() {
+            return TERMINAL_STATUSES.contains(status);
+        }
+    }
+
+    /**
+     * 单条批处理结果，content 与 error 二者有一
+     */
+    @Data
+    @AllArgsConstructor
+    public static class BatchResult {
+
+        private String customId;
+
+        private String content;
+
+        private String error;
+
+        private Integer promptTokens;
+
+        private Integer completionTokens;
+
+        static BatchResult failure(String customId, String error) {
+            return new BatchResult(customId, null, error, null, null);
+        }
+    }
+
+    /**
+     * 上传请求文件并创建批处理任务
+     *
+     * @param parameters 模型调用参数，需已转换为接口字段名（见 {@link OpenAiChatClientFactory#buildBatchParameters}），写入每条请求的 body
+     * @return 批处理任务ID
+     */
+    public String submit(List<BatchRequest> requests, Map<String, Object> parameters, String completionWindow)
+            throws IOException, InterruptedException {
+        Path inputFile = Files.createTempFile("experiment-batch-", ".jsonl");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(inputFile, StandardCharsets.UTF_8)) {
+                for (BatchRequest request : requests) {
+                    ObjectNode body = objectMapper.createObjectNode();
+                    parameters.forEach((key, value) -> body.set(key, objectMapper.valueToTree(value)));
+                    body.put("model", modelName);
+                    body.set("messages", objectMapper.valueToTree(request.getMessages()));
+
+                    ObjectNode line = objectMapper.createObjectNode();
+                    line.put("custom_id", request.getCustomId());
+                    line.put("method", "POST");
+                    line.put("url", COMPLETIONS_ENDPOINT);
+                    line.set("body", body);
+                    writer.write(objectMapper.writeValueAsString(line));
+                    writer.newLine();
+                }
+            }
+            String fileId = uploadFile(inputFile);
+
+            ObjectNode batch = objectMapper.createObjectNode();
+            batch.put("input_file_id", fileId);
+            batch.put("endpoint", COMPLETIONS_ENDPOINT);
+            batch.put("completion_window", completionWindow);
+            JsonNode response = send(request("/v1/batches")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(batch)))
+                    .build());
+            return response.path("id").asText();
+        } finally {
+            Files.deleteIfExists(inputFile);
+        }
+    }
+
+    /**
+     * 查询批处理任务状态
+     */
+    public BatchStatus getStatus(String batchId) throws IOException, InterruptedException {
+        JsonNode response = send(request("/v1/batches/" + batchId).GET().build());
+        BatchStatus status = new BatchStatus();
+        status.setId(response.path("id").asText());
+        status.setStatus(response.path("status").asText());
+        status.setOutputFileId(textOrNull(response.path("output_file_id")));
+        status.setErrorFileId(textOrNull(response.path("error_file_id")));
+        JsonNode counts = response.path("request_counts");
+        status.setTotal(counts.path("total").asInt());
+        status.setCompleted(counts.path("completed").asInt());
+        status.setFailed(counts.path("failed").asInt());
+        return status;
+    }
+
+    /**
+     * 取消批处理任务
+     */
+    public void cancel(String batchId) throws IOException, InterruptedException {
+        send(request("/v1/batches/" + batchId + "/cancel").POST(HttpRequest.BodyPublishers.noBody()).build());
+    }
+
+    /**
+     * 逐行读取结果文件（输出文件或错误文件），consumer 返回 false 时停止读取
+     */
+    public void readResults(String fileId, Predicate<BatchResult> consumer) throws IOException, InterruptedException {
+        HttpResponse<InputStream> response = httpClient.send(
+                request("/v1/files/" + fileId + "/content").GET().build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            if (response.statusCode() / 100 != 2) {
+                throw new IOException("读取批处理结果文件失败: HTTP " + response.statusCode());
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!StringUtils.hasText(line)) {
+                    continue;
+                }
+                if (!consumer.test(parseResult(objectMapper.readTree(line)))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private BatchResult parseResult(JsonNode line) {
+        String customId = line.path("custom_id").asText();
+        JsonNode error = line.path("error");
+        if (!error.isMissingNode() && !error.isNull()) {
+            return BatchResult.failure(customId, error.path("message").asText(error.toString()));
+        }
+        JsonNode response = line.path("response");
+        int statusCode = response.path("status_code").asInt(200);
+        JsonNode body = response.path("body");
+        if (statusCode / 100 != 2) {
+            return BatchResult.failure(customId, "HTTP " + statusCode + ": " + body.path("error").path("message").asText(body.toString()));
+        }
+        JsonNode content = body.path("choices").path(0).path("message").path("content");
+        if (content.isMissingNode() || content.isNull()) {
+            return BatchResult.failure(customId, "批处理结果中没有模型输出");
+        }
+        JsonNode usage = body.path("usage");
+        return new BatchResult(customId, content.asText(), null,
+                usage.has("prompt_tokens") ? usage.path("prompt_tokens").asInt() : null,
+                usage.has("completion_tokens") ? usage.path("completion_tokens").asInt() : null);
+    }
+
+    private String uploadFile(Path file) throws IOException, InterruptedException {
+        String boundary = "----batch" + UUID.randomUUID().toString().replace("-", "");
+        String head = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"purpose\"\r\n\r\nbatch\r\n"
+                + "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + file.getFileName() + "\"\r\n"
+                + "Content-Type: application/jsonl\r\n\r\n";
+        String tail = "\r\n--" + boundary + "--\r\n";
+        HttpRequest request = request("/v1/files")
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.concat(
+                        HttpRequest.BodyPublishers.ofString(head),
+                        HttpRequest.BodyPublishers.ofFile(file),
+                        HttpRequest.BodyPublishers.ofString(tail)))
+                .build();
+        return send(request).path("id").asText();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + apiKey);
+    }
+
+    private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("批处理接口调用失败: " + request.uri() + ", HTTP " + response.statusCode() + ", " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private static String textOrNull(JsonNode node) {
+        return node.isMissingNode() || node.isNull() ? null : node.asText();
+    }
+}
@@ -1,6 +1,7 @@
 package com.alibaba.cloud.ai.studio.admin.service.client;
 
 import com.alibaba.cloud.ai.studio.admin.entity.ModelConfigDO;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.observation.ObservationRegistry;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.chat.observation.ChatModelObservationConvention;
@@ -11,6 +12,9 @@ import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.ai.openai.api.OpenAiApi;
 import org.springframework.stereotype.Component;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -29,12 +33,23 @@ public class OpenAiChatClientFactory implements ChatClientFactory {
     
     private final ChatModelObservationConvention customChatModelObservationConvention;
     
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * 批处理接口共用的HTTP客户端
+     */
+    private final HttpClient batchHttpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    
     public OpenAiChatClientFactory(ObservationRegistry observationRegistry,
             ToolCallingManager toolCallingManager,
-            ChatModelObservationConvention customChatModelObservationConvention) {
+            ChatModelObservationConvention customChatModelObservationConvention,
+            ObjectMapper objectMapper) {
         this.observationRegistry = observationRegistry;
         this.toolCallingManager = toolCallingManager;
         this.customChatModelObservationConvention = customChatModelObservationConvention;
+        this.objectMapper = objectMapper;
     }
     
     @Override
@@ -117,5 +132,69 @@ public class OpenAiChatClientFactory implements ChatClientFactory {
         return options;
     }
     
+    /**
+     * 将模型参数转换为 Batch API 请求体中的字段，支持的参数与 {@link #buildChatOptions} 一致，
+     * 驼峰和下划线两种写法都转换为接口要求的下划线命名，不支持的参数忽略
+     */
+    public static Map<String, Object> buildBatchParameters(Map<String, Object> parameters) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+            Object value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            switch (entry.getKey()) {
+                case "temperature":
+                    body.put("temperature", ((Number) value).doubleValue());
+                    break;
+                case "maxTokens":
+                case "max_tokens":
+                    body.put("max_tokens", ((Number) value).intValue());
+                    break;
+                case "maxCompletionToken":
+                case "max_completion_token":
+                    body.put("max_completion_tokens", ((Number) value).intValue());
+                    break;
+                case "topLogprobs":
+                case "top_logprobs":
+                    body.put("top_logprobs", ((Number) value).intValue());
+                    break;
+                case "logprobs":
+                    body.put("logprobs", value);
+                    break;
+                case "N":
+                case "n":
+                    body.put("n", ((Number) value).intValue());
+                    break;
+                case "reasoningEffort":
+                case "reasoning_effort":
+                    body.put("reasoning_effort", value.toString());
+                    break;
+                case "topP":
+                case "top_p":
+                    body.put("top_p", ((Number) value).doubleValue());
+                    break;
+                case "frequencyPenalty":
+                case "frequency_penalty":
+                    body.put("frequency_penalty", ((Number) value).doubleValue());
+                    break;
+                case "presencePenalty":
+                case "presence_penalty":
+                    body.put("presence_penalty", ((Number) value).doubleValue());
+                    break;
+                default:
+                    break;
+            }
+        }
+        return body;
+    }
+    
+    /**
+     * 构建 Batch API 客户端，请求发往模型配置的 baseUrl，便于指向本地桩服务测试
+     */
+    public OpenAiBatchClient buildBatchClient(ModelConfigDO modelConfig) {
+        return new OpenAiBatchClient(batchHttpClient, objectMapper, modelConfig.getBaseUrl(), modelConfig.getApiKey(),
+                modelConfig.getModelName());
+    }
     
 }
@@ -0,0 +1,222 @@
+package com.alibaba.cloud.ai.studio.admin.service.evaluator;
+
+import com.alibaba.cloud.ai.studio.admin.dto.BuiltinMetricConfig;
+import com.alibaba.cloud.ai.studio.admin.dto.EvaluatorDebugResult;
+import com.alibaba.cloud.ai.studio.admin.utils.TextMetrics;
+import com.alibaba.fastjson.JSONObject;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+import com.networknt.schema.ValidationMessage;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 内置评估器：精确匹配、正则、JSON Schema、数值容差、编辑距离、ROUGE-L、BLEU 等确定性指标在进程内计算，
+ * 不消耗Token。解析后的配置（含编译好的正则和Schema）按配置内容缓存，同一评估器版本只解析一次
+ */
+@Slf4j
+@Component
+public class BuiltinMetricEvaluator {
+
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("[-+]?\\d+(?:\\.\\d+)?(?:[eE][-+]?\\d+)?");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final JsonSchemaFactory schemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
+
+    /**
+     * 按配置内容缓存解析结果，配置来自评估器版本，数量有限，设置上限防止调试时的临时配置无限增长
+     */
+    private final Cache<String, CompiledMetric> compiledMetrics = Caffeine.newBuilder()
+            .maximumSize(1024)
+            .build();
+
+    /**
+     * 计算指标得分
+     *
+     * @param metricConfig 指标配置（JSON格式）
+     * @param actualOutput 实际输出
+     * @param referenceOutput 参考输出
+     * @return 评估结果，得分范围0.0-1.0
+     */
+    public EvaluatorDebugResult evaluate(String metricConfig, String actualOutput, String referenceOutput) {
+        long start = System.nanoTime();
+        CompiledMetric metric = compile(metricConfig);
+        BuiltinMetricConfig config = metric.config;
+
+        String actual = normalize(actualOutput, config);
+        String reference = normalize(referenceOutput, config);
+        boolean ignoreCase = Boolean.TRUE.equals(config.getIgnoreCase());
+
+        double score;
+        String reason;
+        switch (config.getMetric()) {
+            case BuiltinMetricConfig.EXACT_MATCH -> {
+                boolean matched = ignoreCase ? actual.equalsIgnoreCase(reference) : actual.equals(reference);
+                score = matched ? 1.0 : 0.0;
+                reason = matched ? "与参考输出完全一致" : "与参考输出不一致";
+            }
+            case BuiltinMetricConfig.REGEX -> {
+                boolean matched = metric.pattern.matcher(actual).find();
+                score = matched ? 1.0 : 0.0;
+                reason = matched ? "匹配正则表达式" : "未匹配正则表达式";
+            }
+            case BuiltinMetricConfig.JSON_SCHEMA -> {
+                String errors = validateJson(metric.schema, actual);
+                score = errors == null ? 1.0 : 0.0;
+                reason = errors == null ? "符合JSON Schema" : errors;
+            }
+            case BuiltinMetricConfig.NUMERIC -> {
+                Double actualNumber = parseNumber(actual);
+                Double referenceNumber = parseNumber(reference);
+                if (actualNumber == null || referenceNumber == null) {
+                    score = 0.0;
+                    reason = actualNumber == null ? "实际输出中没有数值" : "参考输出中没有数值";
+                } else {
+                    double delta = Math.abs(actualNumber - referenceNumber);
+                    score = delta <= config.getTolerance() ? 1.0 : 0.0;
+                    reason = "数值误差 " + delta + "，允许误差 " + config.getTolerance();
+                }
+            }
+            case BuiltinMetricConfig.LEVENSHTEIN -> {
+                score = ignoreCase
+                        ? TextMetrics.levenshteinSimilarity(actual.toLowerCase(), reference.toLowerCase())
+                        : TextMetrics.levenshteinSimilarity(actual, reference);
+                reason = "编辑相似度 " + format(score);
+            }
+            case BuiltinMetricConfig.ROUGE_L -> {
+                score = TextMetrics.rougeL(actual, reference, ignoreCase);
+                reason = "ROUGE-L " + format(score);
+            }
+            case BuiltinMetricConfig.BLEU -> {
+                score = TextMetrics.bleu(actual, reference, ignoreCase);
+                reason = "BLEU " + format(score);
+            }
+            default -> throw new IllegalArgumentException("Unsupported builtin metric: " + config.getMetric());
+        }
+
+        if (config.getThreshold() != null) {
+            boolean passed = score >= config.getThreshold();
+            reason = reason + (passed ? "，达到" : "，未达到") + "阈值 " + config.getThreshold();
+            score = passed ? 1.0 : 0.0;
+        }
+
+        EvaluatorDebugResult result = new EvaluatorDebugResult();
+        result.setScore(format(score));
+        result.setReason(reason);
+        result.setLatencyMs((System.nanoTime() - start) / 1_000_000);
+        result.setTotalTokens(0);
+        return result;
+    }
+
+    /**
+     * 校验指标配置，配置非法时抛出 IllegalArgumentException
+     */
+    public void validate(String metricConfig) {
+        compile(metricConfig);
+    }
+
+    private CompiledMetric compile(String metricConfig) {
+        if (!StringUtils.hasText(metricConfig)) {
+            throw new IllegalArgumentException("Builtin evaluator requires a metric config");
+        }
+        return compiledMetrics.get(metricConfig, this::doCompile);
+    }
+
+    private CompiledMetric doCompile(String metricConfig) {
+        BuiltinMetricConfig config = JSONObject.parseObject(metricConfig, BuiltinMetricConfig.class);
+        if (config == null || !BuiltinMetricConfig.METRICS.contains(config.getMetric())) {
+            throw new IllegalArgumentException("Builtin metric must be one of " + BuiltinMetricConfig.METRICS);
+        }
+        if (config.getThreshold() != null && (config.getThreshold() < 0 || config.getThreshold() > 1)) {
+            throw new IllegalArgumentException("Builtin metric threshold must be in [0, 1]");
+        }
+        if (config.getTolerance() == null || config.getTolerance() < 0) {
+            throw new IllegalArgumentException("Numeric tolerance must not be negative");
+        }
+
+        Pattern pattern = null;
+        JsonSchema schema = null;
+        if (BuiltinMetricConfig.REGEX.equals(config.getMetric())) {
+            if (!StringUtils.hasText(config.getPattern())) {
+                throw new IllegalArgumentException("Regex metric requires a pattern");
+            }
+            try {
+                pattern = Boolean.TRUE.equals(config.getIgnoreCase())
+                        ? Pattern.compile(config.getPattern(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE)
+                        : Pattern.compile(config.getPattern());
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Invalid regex pattern: " + e.getMessage());
+            }
+        } else if (BuiltinMetricConfig.JSON_SCHEMA.equals(config.getMetric())) {
+            if (!StringUtils.hasText(config.getSchema())) {
+                throw new IllegalArgumentException("JSON schema metric requires a schema");
+            }
+            try {
+                schema = schemaFactory.getSchema(objectMapper.readTree(config.getSchema()));
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Invalid JSON schema: " + e.getMessage());
+            }
+        }
+        log.debug("编译内置评估指标: {}", config.getMetric());
+        return new CompiledMetric(config, pattern, schema);
+    }
+
+    /**
+     * @return 校验错误描述，通过时返回null
+     */
+    private String validateJson(JsonSchema schema, String actual) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(actual);
+        } catch (Exception e) {
+            return "实际输出不是合法的JSON: " + e.getMessage();
+        }
+        if (node == null || node.isMissingNode()) {
+            return "实际输出不是合法的JSON";
+        }
+        Set<ValidationMessage> errors = schema.validate(node);
+        return errors.isEmpty() ? null : "不符合JSON Schema: " + errors;
+    }
+
+    private Double parseNumber(String text) {
+        Matcher matcher = NUMBER_PATTERN.matcher(text);
+        return matcher.find() ? Double.parseDouble(matcher.group()) : null;
+    }
+
+    private String normalize(String text, BuiltinMetricConfig config) {
+        if (text == null) {
+            return "";
+        }
+        return Boolean.FALSE.equals(config.getTrim()) ? text : text.strip();
+    }
+
+    private String format(double score) {
+        // 不使用 String.format，避免按默认区域设置输出逗号小数点
+        double clamped = Double.isNaN(score) ? 0.0 : Math.max(0.0, Math.min(1.0, score));
+        return BigDecimal.valueOf(clamped).setScale(2, RoundingMode.HALF_UP).toPlainString();
+    }
+
+    @AllArgsConstructor
+    private static class CompiledMetric {
+
+        private final BuiltinMetricConfig config;
+
+        private final Pattern pattern;
+
+        private final JsonSchema schema;
+    }
+}
@@ -20,7 +20,10 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -80,10 +83,17 @@ public class DatasetServiceImpl implements DatasetService {
         // 查询数据
         List<DatasetDO> datasetDOList = datasetMapper.selectList(name, offset, pageSize);
 
+        // 整页数据集的最新版本一次查出
+        Map<Long, DatasetVersionDO> latestVersions = datasetDOList.isEmpty() ? Map.of()
+                : datasetVersionMapper.selectLatestVersionsByDatasetIds(
+                                datasetDOList.stream().map(DatasetDO::getId).toList())
+                        .stream()
+                        .collect(Collectors.toMap(DatasetVersionDO::getDatasetId, Function.identity()));
+
         List<Dataset> datasetList = datasetDOList.stream()
                 .map(Dataset::fromDO)
                 .peek(dataset -> {
-                    DatasetVersionDO datasetVersionDO = datasetVersionMapper.selectLatestVersion(dataset.getId());
+                    DatasetVersionDO datasetVersionDO = latestVersions.get(dataset.getId());
                     if (Objects.nonNull(datasetVersionDO)) {
                         dataset.setDataCount(datasetVersionDO.getDataCount());
                         dataset.setLatestVersion(datasetVersionDO.getVersion());
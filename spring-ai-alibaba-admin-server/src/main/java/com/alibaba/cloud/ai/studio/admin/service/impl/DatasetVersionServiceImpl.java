@@ -13,6 +13,7 @@ import com.alibaba.cloud.ai.studio.admin.mapper.DatasetMapper;
 import com.alibaba.cloud.ai.studio.admin.mapper.DatasetVersionMapper;
 import com.alibaba.cloud.ai.studio.admin.mapper.ExperimentMapper;
 import com.alibaba.cloud.ai.studio.admin.service.DatasetVersionService;
+import com.alibaba.cloud.ai.studio.admin.service.ExperimentService;
 import com.alibaba.cloud.ai.studio.admin.utils.VersionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +33,7 @@ public class DatasetVersionServiceImpl implements DatasetVersionService {
     private final DatasetVersionMapper datasetVersionMapper;
     private final DatasetMapper datasetMapper;
     private final ExperimentMapper experimentMapper;
+    private final ExperimentService experimentService;
 
     @Override
     @Transactional
@@ -210,9 +212,7 @@ public class DatasetVersionServiceImpl implements DatasetVersionService {
                 (long) totalCount,
                 (long) request.getPageNumber(),
                 (long) request.getPageSize(),
-                experimentDOList.stream()
-                        .map(Experiment::fromDO)
-                        .toList());
+                experimentService.toExperimentsWithSummaries(experimentDOList));
 
         }
 
@@ -3,25 +3,45 @@ package com.alibaba.cloud.ai.studio.admin.service.impl;
 import com.alibaba.cloud.ai.studio.admin.common.PageResult;
 import com.alibaba.cloud.ai.studio.admin.dto.*;
 import com.alibaba.cloud.ai.studio.admin.dto.request.*;
+import com.alibaba.cloud.ai.studio.admin.entity.DatasetItemDO;
+import com.alibaba.cloud.ai.studio.admin.entity.DatasetVersionDO;
 import com.alibaba.cloud.ai.studio.admin.entity.EvaluatorDO;
 import com.alibaba.cloud.ai.studio.admin.entity.EvaluatorVersionDO;
+import com.alibaba.cloud.ai.studio.admin.mapper.DatasetItemMapper;
+import com.alibaba.cloud.ai.studio.admin.mapper.DatasetVersionMapper;
 import com.alibaba.cloud.ai.studio.admin.mapper.EvaluatorMapper;
 import com.alibaba.cloud.ai.studio.admin.mapper.EvaluatorVersionMapper;
-import com.alibaba.cloud.ai.studio.admin.service.ChatSessionService;
 import com.alibaba.cloud.ai.studio.admin.service.EvaluatorService;
+import com.alibaba.cloud.ai.studio.admin.service.client.ChatClientFactoryDelegate;
+import com.alibaba.cloud.ai.studio.admin.service.evaluator.BuiltinMetricEvaluator;
+import com.alibaba.cloud.ai.studio.admin.utils.CommonUtils;
+import com.alibaba.cloud.ai.studio.admin.utils.JsonExtractor;
 import com.alibaba.cloud.ai.studio.admin.utils.ModelConfigParser;
 import com.alibaba.fastjson.JSONObject;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.*;
-
-import static com.alibaba.cloud.ai.studio.admin.utils.CommonUtils.extractRawText;
-
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -32,16 +52,48 @@ public class EvaluatorServiceImpl implements EvaluatorService {
 
     private final EvaluatorVersionMapper evaluatorVersionMapper;
 
-    private final ChatSessionService chatSessionService;
+    private final ChatClientFactoryDelegate chatClientFactoryDelegate;
 
     private final ModelConfigParser modelConfigParser;
 
+    private final BuiltinMetricEvaluator builtinMetricEvaluator;
+
+    private final DatasetVersionMapper datasetVersionMapper;
+
+    private final DatasetItemMapper datasetItemMapper;
+
+    /**
+     * 评估器调用的观测元数据，固定不变，评估器调用可按模型配置共享ChatClient
+     */
+    private static final Map<String, String> EVALUATOR_OBSERVATION_METADATA = Map.of("studioSource", "evaluator");
+
+    /**
+     * 批量调试单次请求的用例数上限
+     */
+    private static final int MAX_BATCH_DEBUG_CASES = 1000;
+
+    /**
+     * 批量调试的并发上限，避免单个请求占满模型限流
+     */
+    private static final int MAX_BATCH_DEBUG_CONCURRENCY = 16;
+
+    /**
+     * 共识评估采样线程池
+     */
+    private final ExecutorService consensusExecutor = Executors.newFixedThreadPool(16);
+
     private final String SYSTEM_PROMPT = """
             按照Json格式返回评估结果。例如
             {"score":"0.85","reason":"回答基本正确，准确回答了用户关于人工智能的问题。"}
             只返回Json字符串，不要有其他任何内容。
             """;
 
+    private final String CASCADE_SYSTEM_PROMPT = """
+            按照Json格式返回评估结果，confidence为你对该评分的把握程度（0-1）。例如
+            {"score":"0.85","reason":"回答基本正确，准确回答了用户关于人工智能的问题。","confidence":"0.9"}
+            只返回Json字符串，不要有其他任何内容。
+            """;
+
     @Override
     public Evaluator create(EvaluatorCreateRequest request) {
         log.info("创建评估器: {}", request);
@@ -74,10 +126,17 @@ public class EvaluatorServiceImpl implements EvaluatorService {
 
         List<EvaluatorDO> evaluatorDOList = evaluatorMapper.selectList(request.getName(), offset, pageSize);
 
+        // 整页评估器的最新版本一次查出
+        Map<Long, EvaluatorVersionDO> latestVersions = evaluatorDOList.isEmpty() ? Map.of()
+                : evaluatorVersionMapper.selectLatestVersionsByEvaluatorIds(
+                                evaluatorDOList.stream().map(EvaluatorDO::getId).toList())
+                        .stream()
+                        .collect(Collectors.toMap(EvaluatorVersionDO::getEvaluatorId, Function.identity()));
+
         List<Evaluator> evaluatorList = evaluatorDOList.stream()
                 .map(Evaluator::fromDO)
                 .map(evaluator -> {
-                    EvaluatorVersionDO evaluatorVersionDO = evaluatorVersionMapper.selectLatestVersionByEvaluatorId(evaluator.getId());
+                    EvaluatorVersionDO evaluatorVersionDO = latestVersions.get(evaluator.getId());
                     if (evaluatorVersionDO != null) {
                         evaluator.setModelConfig(evaluatorVersionDO.getModelConfig());
                         evaluator.setLatestVersion(evaluatorVersionDO.getVersion());
@@ -155,41 +214,384 @@ public class EvaluatorServiceImpl implements EvaluatorService {
     public EvaluatorDebugResult debug(EvaluatorTestRequest request) {
         log.info("调试评估器: {}", request);
 
-        EvaluatorDebugResult result = evaluatorTest(request);
+        EvaluatorDebugResult result = evaluateWithCascade(request);
+
+        return result;
+    }
+
+
+    /**
+     * 级联评估：配置了级联时先用第一级模型评估，命中升级规则才调用主模型，否则等同于 evaluatorTest
+     */
+    public EvaluatorDebugResult evaluateWithCascade(EvaluatorTestRequest request) {
+        if (EvaluatorVersionDO.EVALUATOR_TYPE_BUILTIN.equals(request.getEvaluatorType())) {
+            JSONObject variables = StringUtils.hasText(request.getVariables())
+                    ? JSONObject.parseObject(request.getVariables()) : new JSONObject();
+            return builtinMetricEvaluator.evaluate(request.getMetricConfig(),
+                    variables.getString(BuiltinMetricConfig.ACTUAL_OUTPUT_VARIABLE),
+                    variables.getString(BuiltinMetricConfig.REFERENCE_OUTPUT_VARIABLE));
+        }
+        if (!StringUtils.hasText(request.getModelConfig()) || !StringUtils.hasText(request.getPrompt())) {
+            throw new IllegalArgumentException("Model config and prompt are required for llm evaluator");
+        }
+        if (!StringUtils.hasText(request.getCascadeConfig())) {
+            return evaluatorTest(request);
+        }
+        EvaluatorCascadeConfig cascade = JSONObject.parseObject(request.getCascadeConfig(), EvaluatorCascadeConfig.class);
+
+        EvaluatorTestRequest firstTierRequest = new EvaluatorTestRequest();
+        firstTierRequest.setModelConfig(cascade.getModelConfig());
+        firstTierRequest.setPrompt(request.getPrompt());
+        firstTierRequest.setVariables(request.getVariables());
+
+        EvaluatorDebugResult firstTier = null;
+        try {
+            firstTier = judge(firstTierRequest, CASCADE_SYSTEM_PROMPT);
+        } catch (Exception e) {
+            log.warn("第一级评估失败，升级到主模型: {}", e.getMessage());
+        }
+        if (firstTier != null && !cascade.shouldEscalate(firstTier)) {
+            firstTier.setEscalated(false);
+            return firstTier;
+        }
 
+        log.info("级联评估升级到主模型，第一级结果: {}", firstTier);
+        EvaluatorDebugResult result = evaluatorTest(request);
+        result.setEscalated(true);
+        if (firstTier != null) {
+            result.setLatencyMs(sum(result.getLatencyMs(), firstTier.getLatencyMs()));
+            if (firstTier.getTotalTokens() != null) {
+                result.setTotalTokens(result.getTotalTokens() != null
+                        ? result.getTotalTokens() + firstTier.getTotalTokens() : firstTier.getTotalTokens());
+            }
+        }
         return result;
     }
 
+    @Override
+    public Flux<EvaluatorBatchDebugEvent> batchDebug(EvaluatorBatchDebugRequest request) {
+        List<EvaluatorDebugCase> cases = resolveDebugCases(request);
+        int concurrency = Math.max(1, Math.min(request.getConcurrency() != null ? request.getConcurrency() : 4,
+                MAX_BATCH_DEBUG_CONCURRENCY));
+        double tolerance = request.getTolerance() != null ? request.getTolerance() : 0.1;
+        log.info("批量调试评估器: cases={}, concurrency={}", cases.size(), concurrency);
+
+        BatchDebugStatistics statistics = new BatchDebugStatistics(cases.size(), tolerance);
+        long start = System.currentTimeMillis();
+        return Flux.range(0, cases.size())
+                .flatMap(index -> Mono.fromCallable(() -> debugCase(request, index, cases.get(index)))
+                        .subscribeOn(Schedulers.boundedElastic()), concurrency)
+                .doOnNext(statistics::add)
+                .concatWith(Mono.fromCallable(() -> EvaluatorBatchDebugEvent.createSummaryEvent(
+                        statistics.toSummary(System.currentTimeMillis() - start))));
+    }
+
+    private EvaluatorBatchDebugEvent debugCase(EvaluatorBatchDebugRequest batchRequest, int index, EvaluatorDebugCase debugCase) {
+        EvaluatorTestRequest request = new EvaluatorTestRequest();
+        request.setEvaluatorType(batchRequest.getEvaluatorType());
+        request.setMetricConfig(batchRequest.getMetricConfig());
+        request.setModelConfig(batchRequest.getModelConfig());
+        request.setPrompt(batchRequest.getPrompt());
+        request.setCascadeConfig(batchRequest.getCascadeConfig());
+        request.setConsensusConfig(batchRequest.getConsensusConfig());
+        request.setVariables(mergeVariables(batchRequest.getVariables(), debugCase.getVariables()));
+        try {
+            return EvaluatorBatchDebugEvent.createResultEvent(index, debugCase, evaluateWithCascade(request));
+        } catch (Exception e) {
+            log.warn("批量调试用例失败: index={}, error={}", index, e.getMessage());
+            return EvaluatorBatchDebugEvent.createErrorEvent(index, debugCase, e.getMessage());
+        }
+    }
 
     /**
-     * 调试模型调用
+     * 构建调试用例：直接传入的用例，或按变量映射从数据集版本的数据项构建
+     */
+    private List<EvaluatorDebugCase> resolveDebugCases(EvaluatorBatchDebugRequest request) {
+        List<EvaluatorDebugCase> cases;
+        if (request.getDatasetVersionId() != null) {
+            if (request.getVariableMap() == null || request.getVariableMap().isEmpty()) {
+                throw new IllegalArgumentException("Variable map is required when debugging with a dataset version");
+            }
+            DatasetVersionDO datasetVersion = datasetVersionMapper.selectById(request.getDatasetVersionId());
+            if (datasetVersion == null) {
+                throw new IllegalArgumentException("Dataset version not found: " + request.getDatasetVersionId());
+            }
+            // 与直接传入的用例一致，超出上限时拒绝而不是截取
+            List<Long> itemIds = CommonUtils.parseItemIds(datasetVersion.getDatasetItems());
+            if (itemIds.size() > MAX_BATCH_DEBUG_CASES) {
+                throw new IllegalArgumentException("Too many debug cases, max " + MAX_BATCH_DEBUG_CASES);
+            }
+            cases = itemIds.isEmpty() ? List.of()
+                    : datasetItemMapper.selectByDatasetIdAndItemIds(datasetVersion.getDatasetId(), itemIds).stream()
+                            .map(item -> toDebugCase(item, request))
+                            .toList();
+        } else {
+            cases = request.getCases() != null ? request.getCases() : List.of();
+        }
+        if (cases.isEmpty()) {
+            throw new IllegalArgumentException("No debug cases");
+        }
+        if (cases.size() > MAX_BATCH_DEBUG_CASES) {
+            throw new IllegalArgumentException("Too many debug cases, max " + MAX_BATCH_DEBUG_CASES);
+        }
+        return cases;
+    }
+
+    private EvaluatorDebugCase toDebugCase(DatasetItemDO item, EvaluatorBatchDebugRequest request) {
+        JSONObject dataContent = JSONObject.parseObject(item.getDataContent());
+        JSONObject variables = new JSONObject();
+        for (VariableMapItem variableMapItem : request.getVariableMap()) {
+            variables.put(variableMapItem.getEvaluatorVariable(), dataContent.getString(variableMapItem.getSource()));
+        }
+        Double expectedScore = null;
+        if (StringUtils.hasText(request.getExpectedScoreField())) {
+            try {
+                expectedScore = dataContent.getDouble(request.getExpectedScoreField());
+            } catch (Exception e) {
+                log.debug("数据项期望得分无法解析: itemId={}", item.getId());
+            }
+        }
+        return EvaluatorDebugCase.builder()
+                .variables(variables.toJSONString())
+                .expectedScore(expectedScore)
+                .datasetItemId(item.getId())
+                .build();
+    }
+
+    private String mergeVariables(String base, String override) {
+        if (!StringUtils.hasText(base)) {
+            return override;
+        }
+        if (!StringUtils.hasText(override)) {
+            return base;
+        }
+        JSONObject merged = JSONObject.parseObject(base);
+        merged.putAll(JSONObject.parseObject(override));
+        return merged.toJSONString();
+    }
+
+    /**
+     * 批量调试统计，事件由 flatMap 串行发出，无需同步
+     */
+    private static class BatchDebugStatistics {
+
+        private final int total;
+
+        private final double tolerance;
+
+        private int succeeded;
+
+        private int failed;
+
+        private double scoreSum;
+
+        private long totalTokens;
+
+        private int labelled;
+
+        private int agreed;
+
+        private double absoluteErrorSum;
+
+        private double sumX;
+
+        private double sumY;
+
+        private double sumXX;
+
+        private double sumYY;
+
+        private double sumXY;
+
+        BatchDebugStatistics(int total, double tolerance) {
+            this.total = total;
+            this.tolerance = tolerance;
+        }
+
+        void add(EvaluatorBatchDebugEvent event) {
+            EvaluatorDebugResult result = event.getResult();
+            if (event.getError() != null || result == null || !StringUtils.hasText(result.getScore())) {
+                failed++;
+                return;
+            }
+            double score;
+            try {
+                score = Double.parseDouble(result.getScore().trim());
+            } catch (NumberFormatException e) {
+                failed++;
+                return;
+            }
+            succeeded++;
+            scoreSum += score;
+            if (result.getTotalTokens() != null) {
+                totalTokens += result.getTotalTokens();
+            }
+            Double expected = event.getExpectedScore();
+            if (expected == null) {
+                return;
+            }
+            labelled++;
+            double error = Math.abs(score - expected);
+            absoluteErrorSum += error;
+            if (error <= tolerance + 1e-9) {
+                agreed++;
+            }
+            sumX += score;
+            sumY += expected;
+            sumXX += score * score;
+            sumYY += expected * expected;
+            sumXY += score * expected;
+        }
+
+        EvaluatorBatchDebugSummary toSummary(long elapsedMs) {
+            Double pearson = null;
+            if (labelled > 1) {
+                double covariance = labelled * sumXY - sumX * sumY;
+                double varianceX = labelled * sumXX - sumX * sumX;
+                double varianceY = labelled * sumYY - sumY * sumY;
+                if (varianceX > 0 && varianceY > 0) {
+                    pearson = covariance / Math.sqrt(varianceX * varianceY);
+                }
+            }
+            return EvaluatorBatchDebugSummary.builder()
+                    .total(total)
+                    .succeeded(succeeded)
+                    .failed(failed)
+                    .labelled(labelled)
+                    .meanScore(succeeded > 0 ? scoreSum / succeeded : null)
+                    .meanAbsoluteError(labelled > 0 ? absoluteErrorSum / labelled : null)
+                    .agreementRate(labelled > 0 ? (double) agreed / labelled : null)
+                    .pearsonCorrelation(pearson)
+                    .tolerance(tolerance)
+                    .totalTokens(totalTokens)
+                    .elapsedMs(elapsedMs)
+                    .build();
+        }
+    }
+
+    /**
+     * 调试模型调用，配置了共识采样时按共识模式评估
      */
     public EvaluatorDebugResult evaluatorTest(EvaluatorTestRequest request) {
-        ChatSession session = chatSessionService.createEvaluatorSession(request.getPrompt(), request.getVariables(), request.getModelConfig());
-        Map<String, String> observationMetadata = new HashMap<>();
-        observationMetadata.put("studioSource", "evaluator");
-        ChatClient client = chatSessionService.getOrCreateSessionChatClient(session.getSessionId(), observationMetadata);
+        if (StringUtils.hasText(request.getConsensusConfig())) {
+            return evaluateWithConsensus(request,
+                    JSONObject.parseObject(request.getConsensusConfig(), EvaluatorConsensusConfig.class));
+        }
+        return judge(request, SYSTEM_PROMPT);
+    }
+
+    /**
+     * 共识评估：并发发起全部采样，按完成顺序收集得分，一旦有足够多的得分在容差内一致即取消其余采样。
+     * 最终得分取一致组的中位数，未达成一致时取全部得分的中位数
+     */
+    private EvaluatorDebugResult evaluateWithConsensus(EvaluatorTestRequest request, EvaluatorConsensusConfig consensus) {
+        int samples = Math.min(consensus.getSamples(), EvaluatorConsensusConfig.MAX_SAMPLES);
+        long start = System.currentTimeMillis();
+
+        CompletionService<EvaluatorDebugResult> completionService = new ExecutorCompletionService<>(consensusExecutor);
+        List<Future<EvaluatorDebugResult>> futures = new ArrayList<>(samples);
+        for (int i = 0; i < samples; i++) {
+            futures.add(completionService.submit(() -> judge(request, SYSTEM_PROMPT)));
+        }
+
+        List<EvaluatorDebugResult> results = new ArrayList<>(samples);
+        List<Double> scores = new ArrayList<>(samples);
+        List<Double> agreed = null;
+        Exception lastError = null;
+        try {
+            for (int i = 0; i < samples && agreed == null; i++) {
+                try {
+                    EvaluatorDebugResult sample = completionService.take().get();
+                    double sampleScore = Double.parseDouble(sample.getScore());
+                    results.add(sample);
+                    scores.add(sampleScore);
+                    agreed = consensus.findAgreement(scores);
+                } catch (ExecutionException | NumberFormatException | NullPointerException e) {
+                    // 单次采样失败不影响其余采样
+                    lastError = e;
+                    log.warn("共识评估采样失败: {}", e.getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("共识评估被中断", e);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+
+        if (scores.isEmpty()) {
+            throw new RuntimeException("共识评估全部采样失败", lastError);
+        }
+
+        List<Double> sortedScores = new ArrayList<>(scores);
+        sortedScores.sort(Double::compareTo);
+        double score = EvaluatorConsensusConfig.median(agreed != null ? agreed : sortedScores);
+
+        // 理由取得分最接近最终得分的采样
+        EvaluatorDebugResult closest = results.stream()
+                .min(Comparator.comparingDouble(sample -> Math.abs(Double.parseDouble(sample.getScore()) - score)))
+                .orElseThrow();
+
+        double mean = scores.stream().mapToDouble(Double::doubleValue).average().orElse(0);
+        double variance = scores.size() > 1
+                ? scores.stream().mapToDouble(s -> (s - mean) * (s - mean)).sum() / (scores.size() - 1) : 0;
+
+        EvaluatorDebugResult result = new EvaluatorDebugResult();
+        result.setScore(BigDecimal.valueOf(score).setScale(2, RoundingMode.HALF_UP).toPlainString());
+        result.setReason(closest.getReason());
+        result.setLatencyMs(System.currentTimeMillis() - start);
+        result.setTotalTokens(results.stream()
+                .map(EvaluatorDebugResult::getTotalTokens)
+                .filter(Objects::nonNull)
+                .reduce(Integer::sum)
+                .orElse(null));
+        result.setSampleCount(scores.size());
+        result.setScoreVariance(variance);
+        result.setConsensusReached(agreed != null);
+        log.info("共识评估完成: score={}, samples={}, variance={}, agreed={}", result.getScore(), scores.size(),
+                variance, agreed != null);
+        return result;
+    }
+
+    private EvaluatorDebugResult judge(EvaluatorTestRequest request, String systemPrompt) {
+        // 单轮调用无需会话，直接复用按 (模型配置, 参数) 共享的ChatClient
+        ModelConfigInfo modelConfigInfo = modelConfigParser.checkAndGetModelConfigInfo(request.getModelConfig());
+        ChatClient client = chatClientFactoryDelegate.getSharedChatClient(modelConfigInfo.getModelId(),
+                modelConfigInfo.getParameters(), EVALUATOR_OBSERVATION_METADATA);
 
         String userPrompt = modelConfigParser.replaceVariables(request.getPrompt(), request.getVariables());
 
-        String prompt = userPrompt.concat(SYSTEM_PROMPT);
+        String prompt = userPrompt.concat(systemPrompt);
 
         log.info("evaluatorTest:prompt,{}", prompt);
 
-        String response = Objects.requireNonNull(client.prompt(prompt).call().content()).trim();
+        long start = System.currentTimeMillis();
+        ChatResponse chatResponse = client.prompt(prompt).call().chatResponse();
+        long latencyMs = System.currentTimeMillis() - start;
+        String response = Objects.requireNonNull(chatResponse.getResult().getOutput().getText()).trim();
 
         log.info("模型返回值:{}", response);
 
-        String formatedResponse = extractRawText(response);
-        log.info("模型返回值:{},格式化后模型返回值:{}.", response, formatedResponse);
-
-        try {
-            return JSONObject.parseObject(formatedResponse, EvaluatorDebugResult.class);
-        } catch (Exception e) {
-            log.info("解析失败: {}", formatedResponse, e);
+        // 兼容代码块、前后说明文字及常见格式问题，避免一次可修复的输出浪费整次调用
+        EvaluatorDebugResult result = JsonExtractor.parse(response, EvaluatorDebugResult.class);
+        if (result == null || !StringUtils.hasText(result.getScore())) {
+            log.info("解析失败: {}", response);
             throw new RuntimeException("解析模型调用结果出错，请重试");
         }
+        result.setLatencyMs(latencyMs);
+        Usage usage = chatResponse.getMetadata().getUsage();
+        if (usage != null && usage.getTotalTokens() != null) {
+            result.setTotalTokens(usage.getTotalTokens());
+        }
+        return result;
 
     }
 
-} 
\ No newline at end of file
+    private static Long sum(Long a, Long b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null ? a : a + b;
+    }
+
+}
@@ -2,6 +2,8 @@ package com.alibaba.cloud.ai.studio.admin.service.impl;
 
 import com.alibaba.cloud.ai.studio.admin.SaaStudioAdmin;
 import com.alibaba.cloud.ai.studio.admin.common.PageResult;
+import com.alibaba.cloud.ai.studio.admin.dto.EvaluatorCascadeConfig;
+import com.alibaba.cloud.ai.studio.admin.dto.EvaluatorConsensusConfig;
 import com.alibaba.cloud.ai.studio.admin.dto.EvaluatorVersion;
 import com.alibaba.cloud.ai.studio.admin.dto.request.EvaluatorVersionCreateRequest;
 import com.alibaba.cloud.ai.studio.admin.dto.request.EvaluatorVersionListRequest;
@@ -9,9 +11,12 @@ import com.alibaba.cloud.ai.studio.admin.dto.request.EvaluatorVersionUpdateReque
 import com.alibaba.cloud.ai.studio.admin.entity.EvaluatorVersionDO;
 import com.alibaba.cloud.ai.studio.admin.mapper.EvaluatorVersionMapper;
 import com.alibaba.cloud.ai.studio.admin.service.EvaluatorVersionService;
+import com.alibaba.cloud.ai.studio.admin.service.evaluator.BuiltinMetricEvaluator;
+import com.alibaba.fastjson.JSONObject;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -24,16 +29,41 @@ public class EvaluatorVersionServiceImpl implements EvaluatorVersionService {
 
     private final EvaluatorVersionMapper evaluatorVersionMapper;
 
+    private final BuiltinMetricEvaluator builtinMetricEvaluator;
+
     @Override
     public EvaluatorVersion create(EvaluatorVersionCreateRequest request) {
         log.info("创建评估器版本: {}", request);
 
+        String evaluatorType = StringUtils.hasText(request.getEvaluatorType())
+                ? request.getEvaluatorType() : EvaluatorVersionDO.EVALUATOR_TYPE_LLM;
+        if (EvaluatorVersionDO.EVALUATOR_TYPE_BUILTIN.equals(evaluatorType)) {
+            builtinMetricEvaluator.validate(request.getMetricConfig());
+        } else if (EvaluatorVersionDO.EVALUATOR_TYPE_LLM.equals(evaluatorType)) {
+            if (!StringUtils.hasText(request.getModelConfig())) {
+                throw new IllegalArgumentException("Model config is required for llm evaluator");
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported evaluator type: " + evaluatorType);
+        }
+
+        if (StringUtils.hasText(request.getCascadeConfig())) {
+            validateCascadeConfig(JSONObject.parseObject(request.getCascadeConfig(), EvaluatorCascadeConfig.class));
+        }
+        if (StringUtils.hasText(request.getConsensusConfig())) {
+            validateConsensusConfig(JSONObject.parseObject(request.getConsensusConfig(), EvaluatorConsensusConfig.class));
+        }
+
         // 构建DO对象
         EvaluatorVersionDO evaluatorVersionDO = EvaluatorVersionDO.builder()
                 .evaluatorId(Long.valueOf(request.getEvaluatorId()))
                 .description(request.getDescription())
                 .version(request.getVersion())
+                .evaluatorType(evaluatorType)
+                .metricConfig(request.getMetricConfig())
                 .modelConfig(request.getModelConfig())
+                .cascadeConfig(request.getCascadeConfig())
+                .consensusConfig(request.getConsensusConfig())
                 .prompt(request.getPrompt())
                 .variables(request.getVariables())
                 .createTime(LocalDateTime.now())
@@ -97,4 +127,33 @@ public class EvaluatorVersionServiceImpl implements EvaluatorVersionService {
 
         return getById(request.getEvaluatorVersionId());
     }
-}
\ No newline at end of file
+
+    private void validateCascadeConfig(EvaluatorCascadeConfig config) {
+        if (!StringUtils.hasText(config.getModelConfig())) {
+            throw new IllegalArgumentException("Cascade model config is required");
+        }
+        boolean hasBand = config.getUncertainScoreMin() != null || config.getUncertainScoreMax() != null;
+        if (hasBand && (config.getUncertainScoreMin() == null || config.getUncertainScoreMax() == null
+                || config.getUncertainScoreMin() > config.getUncertainScoreMax())) {
+            throw new IllegalArgumentException("Uncertain score band requires min <= max");
+        }
+        if (config.getMinConfidence() != null && (config.getMinConfidence() < 0 || config.getMinConfidence() > 1)) {
+            throw new IllegalArgumentException("Min confidence must be in [0, 1]");
+        }
+        if (!hasBand && config.getMinConfidence() == null) {
+            throw new IllegalArgumentException("Cascade config requires an uncertain score band or a min confidence");
+        }
+    }
+
+    private void validateConsensusConfig(EvaluatorConsensusConfig config) {
+        if (config.getSamples() == null || config.getSamples() < 2 || config.getSamples() > EvaluatorConsensusConfig.MAX_SAMPLES) {
+            throw new IllegalArgumentException("Consensus samples must be in [2, " + EvaluatorConsensusConfig.MAX_SAMPLES + "]");
+        }
+        if (config.getAgreement() == null || config.getAgreement() < 1 || config.getAgreement() > config.getSamples()) {
+            throw new IllegalArgumentException("Consensus agreement must be in [1, samples]");
+        }
+        if (config.getTolerance() == null || config.getTolerance() < 0) {
+            throw new IllegalArgumentException("Consensus tolerance must not be negative");
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.alibaba.cloud.ai.studio.admin.service.impl;
+
+import com.alibaba.cloud.ai.studio.admin.dto.ExperimentComparison;
+import com.alibaba.cloud.ai.studio.admin.dto.ExperimentItemDelta;
+import com.alibaba.cloud.ai.studio.admin.dto.ExperimentSignificance;
+import com.alibaba.cloud.ai.studio.admin.dto.request.ExperimentCompareRequest;
+import com.alibaba.cloud.ai.studio.admin.dto.request.ExperimentSignificanceRequest;
+import com.alibaba.cloud.ai.studio.admin.entity.ExperimentDO;
+import com.alibaba.cloud.ai.studio.admin.entity.ExperimentResultDO;
+import com.alibaba.cloud.ai.studio.admin.mapper.ExperimentMapper;
+import com.alibaba.cloud.ai.studio.admin.mapper.ExperimentResultMapper;
+import com.alibaba.cloud.ai.studio.admin.service.ExperimentComparisonService;
+import com.alibaba.cloud.ai.studio.admin.utils.PairedBootstrap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExperimentComparisonServiceImpl implements ExperimentComparisonService {
+
+    private final ExperimentMapper experimentMapper;
+
+    private final SqlSessionFactory sqlSessionFactory;
+
+    @Override
+    public ExperimentComparison compare(ExperimentCompareRequest request) {
+        log.info("对比实验: {}", request);
+
+        ExperimentDO baseExperiment = experimentMapper.selectById(request.getBaseExperimentId());
+        if (baseExperiment == null) {
+            throw new IllegalArgumentException("Experiment not found: " + request.getBaseExperimentId());
+        }
+        ExperimentDO targetExperiment = experimentMapper.selectById(request.getTargetExperimentId());
+        if (targetExperiment == null) {
+            throw new IllegalArgumentException("Experiment not found: " + request.getTargetExperimentId());
+        }
+
+        Long targetEvaluatorVersionId = request.getTargetEvaluatorVersionId() != null
+                ? request.getTargetEvaluatorVersionId() : request.getEvaluatorVersionId();
+
+        MergeState state = new MergeState(request.getTopN(),
+                request.getTieTolerance() != null ? request.getTieTolerance() : 0.0);
+        streamPairs(request.getBaseExperimentId(), request.getEvaluatorVersionId(),
+                request.getTargetExperimentId(), targetEvaluatorVersionId, state);
+
+        return state.toComparison(request, targetEvaluatorVersionId);
+    }
+
+    @Override
+    public ExperimentSignificance significance(ExperimentSignificanceRequest request) {
+        log.info("实验显著性检验: {}", request);
+
+        // 不传对比实验时比较同一实验下的两个评估器
+        Long targetExperimentId = request.getTargetExperimentId() != null
+                ? request.getTargetExperimentId() : request.getBaseExperimentId();
+        Long targetEvaluatorVersionId = request.getTargetEvaluatorVersionId() != null
+                ? request.getTargetEvaluatorVersionId() : request.getEvaluatorVersionId();
+        if (targetExperimentId.equals(request.getBaseExperimentId())
+                && targetEvaluatorVersionId.equals(request.getEvaluatorVersionId())) {
+            throw new IllegalArgumentException("Nothing to compare: same experiment and evaluator");
+        }
+        if (experimentMapper.selectById(request.getBaseExperimentId()) == null) {
+            throw new IllegalArgumentException("Experiment not found: " + request.getBaseExperimentId());
+        }
+        if (experimentMapper.selectById(targetExperimentId) == null) {
+            throw new IllegalArgumentException("Experiment not found: " + targetExperimentId);
+        }
+
+        PairedScores pairs = new PairedScores();
+        streamPairs(request.getBaseExperimentId(), request.getEvaluatorVersionId(),
+                targetExperimentId, targetEvaluatorVersionId, pairs);
+
+        PairedBootstrap.Result bootstrap = PairedBootstrap.run(pairs.base, pairs.target, pairs.size,
+                request.getResamples(), request.getConfidenceLevel(), request.getSeed());
+
+        return ExperimentSignificance.builder()
+                .baseExperimentId(request.getBaseExperimentId())
+                .targetExperimentId(targetExperimentId)
+                .evaluatorVersionId(request.getEvaluatorVersionId())
+                .targetEvaluatorVersionId(targetEvaluatorVersionId)
+                .pairedItemsCount(pairs.size)
+                .resamples(request.getResamples())
+                .confidenceLevel(request.getConfidenceLevel())
+                .baseAverageScore(bootstrap.getBaseMean())
+                .targetAverageScore(bootstrap.getTargetMean())
+                .meanDelta(bootstrap.getMeanDelta())
+                .confidenceLowerBound(bootstrap.getLowerBound())
+                .confidenceUpperBound(bootstrap.getUpperBound())
+                .pValue(bootstrap.getPValue())
+                .significant(pairs.size > 0 && bootstrap.getPValue() < 1 - request.getConfidenceLevel())
+                .build();
+    }
+
+    /**
+     * 流式读取两组结果并按数据项合并
+     */
+    private void streamPairs(Long baseExperimentId, Long baseEvaluatorVersionId,
+                             Long targetExperimentId, Long targetEvaluatorVersionId, MergeVisitor visitor) {
+        // MySQL流式游标会独占连接，两组结果各自使用独立的SqlSession
+        try (SqlSession baseSession = sqlSessionFactory.openSession();
+             SqlSession targetSession = sqlSessionFactory.openSession();
+             Cursor<ExperimentResultDO> baseCursor = baseSession.getMapper(ExperimentResultMapper.class)
+                     .selectCursorOrderByItem(baseExperimentId, baseEvaluatorVersionId);
+             Cursor<ExperimentResultDO> targetCursor = targetSession.getMapper(ExperimentResultMapper.class)
+                     .selectCursorOrderByItem(targetExperimentId, targetEvaluatorVersionId)) {
+            mergeJoin(baseCursor.iterator(), targetCursor.iterator(), visitor);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to close result cursor", e);
+        }
+    }
+
+    /**
+     * 两路结果均按数据项ID升序，逐行推进较小的一侧，内存占用与结果数量无关
+     */
+    private void mergeJoin(Iterator<ExperimentResultDO> base, Iterator<ExperimentResultDO> target, MergeVisitor visitor) {
+        ExperimentResultDO baseRow = next(base, null);
+        ExperimentResultDO targetRow = next(target, null);
+
+        while (baseRow != null || targetRow != null) {
+            if (targetRow == null || (baseRow != null && baseRow.getDatasetItemId() < targetRow.getDatasetItemId())) {
+                visitor.baseOnly(baseRow);
+                baseRow = next(base, baseRow);
+            } else if (baseRow == null || targetRow.getDatasetItemId() < baseRow.getDatasetItemId()) {
+                visitor.targetOnly(targetRow);
+                targetRow = next(target, targetRow);
+            } else {
+                visitor.matched(baseRow, targetRow);
+                baseRow = next(base, baseRow);
+                targetRow = next(target, targetRow);
+            }
+        }
+    }
+
+    /**
+     * 取下一个数据项的记录，同一数据项存在多条结果时只取第一条
+     */
+    private ExperimentResultDO next(Iterator<ExperimentResultDO> iterator, ExperimentResultDO current) {
+        while (iterator.hasNext()) {
+            ExperimentResultDO row = iterator.next();
+            if (current == null || !row.getDatasetItemId().equals(current.getDatasetItemId())) {
+                return row;
+            }
+        }
+        return null;
+    }
+
+    private interface MergeVisitor {
+
+        void matched(ExperimentResultDO baseRow, ExperimentResultDO targetRow);
+
+        default void baseOnly(ExperimentResultDO baseRow) {
+        }
+
+        default void targetOnly(ExperimentResultDO targetRow) {
+        }
+    }
+
+    /**
+     * 收集配对得分到基本类型数组，按需扩容
+     */
+    private static class PairedScores implements MergeVisitor {
+
+        private double[] base = new double[1024];
+
+        private double[] target = new double[1024];
+
+        private int size;
+
+        @Override
+        public void matched(ExperimentResultDO baseRow, ExperimentResultDO targetRow) {
+            if (baseRow.getScore() == null || targetRow.getScore() == null) {
+                return;
+            }
+            if (size == base.length) {
+                base = Arrays.copyOf(base, size * 2);
+                target = Arrays.copyOf(target, size * 2);
+            }
+            base[size] = baseRow.getScore().doubleValue();
+            target[size] = targetRow.getScore().doubleValue();
+            size++;
+        }
+    }
+
+    private static class MergeState implements MergeVisitor {
+
+        private final int topN;
+
+        private final double tieTolerance;
+
+        private int matchedItemsCount;
+
+        private int baseOnlyItemsCount;
+
+        private int targetOnlyItemsCount;
+
+        private int winCount;
+
+        private int lossCount;
+
+        private int tieCount;
+
+        private double baseScoreSum;
+
+        private double targetScoreSum;
+
+        /**
+         * 保留得分差最小的 topN 条，堆顶为其中得分差最大的一条
+         */
+        private final PriorityQueue<ExperimentItemDelta> regressions;
+
+        /**
+         * 保留得分差最大的 topN 条，堆顶为其中得分差最小的一条
+         */
+        private final PriorityQueue<ExperimentItemDelta> improvements;
+
+        MergeState(int topN, double tieTolerance) {
+            this.topN = topN;
+            this.tieTolerance = tieTolerance;
+            Comparator<ExperimentItemDelta> byDelta = Comparator.comparing(ExperimentItemDelta::getDelta);
+            this.regressions = new PriorityQueue<>(topN + 1, byDelta.reversed());
+            this.improvements = new PriorityQueue<>(topN + 1, byDelta);
+        }
+
+        @Override
+        public void baseOnly(ExperimentResultDO baseRow) {
+            baseOnlyItemsCount++;
+        }
+
+        @Override
+        public void targetOnly(ExperimentResultDO targetRow) {
+            targetOnlyItemsCount++;
+        }
+
+        @Override
+        public void matched(ExperimentResultDO baseRow, ExperimentResultDO targetRow) {
+            if (baseRow.getScore() == null || targetRow.getScore() == null) {
+                return;
+            }
+            matchedItemsCount++;
+            baseScoreSum += baseRow.getScore().doubleValue();
+            targetScoreSum += targetRow.getScore().doubleValue();
+
+            BigDecimal delta = targetRow.getScore().subtract(baseRow.getScore());
+            ExperimentItemDelta itemDelta = ExperimentItemDelta.builder()
+                    .datasetItemId(baseRow.getDatasetItemId())
+                    .baseScore(baseRow.getScore())
+                    .targetScore(targetRow.getScore())
+                    .delta(delta)
+                    .build();
+
+            if (Math.abs(delta.doubleValue()) <= tieTolerance) {
+                tieCount++;
+            } else if (delta.signum() > 0) {
+                winCount++;
+                offer(improvements, itemDelta);
+            } else {
+                lossCount++;
+                offer(regressions, itemDelta);
+            }
+        }
+
+        private void offer(PriorityQueue<ExperimentItemDelta> queue, ExperimentItemDelta itemDelta) {
+            queue.offer(itemDelta);
+            if (queue.size() > topN) {
+                queue.poll();
+            }
+        }
+
+        ExperimentComparison toComparison(ExperimentCompareRequest request, Long targetEvaluatorVersionId) {
+            List<ExperimentItemDelta> regressionList = new ArrayList<>(regressions);
+            regressionList.sort(Comparator.comparing(ExperimentItemDelta::getDelta));
+            List<ExperimentItemDelta> improvementList = new ArrayList<>(improvements);
+            improvementList.sort(Comparator.comparing(ExperimentItemDelta::getDelta).reversed());
+
+            ExperimentComparison.ExperimentComparisonBuilder builder = ExperimentComparison.builder()
+                    .baseExperimentId(request.getBaseExperimentId())
+                    .targetExperimentId(request.getTargetExperimentId())
+                    .evaluatorVersionId(request.getEvaluatorVersionId())
+                    .targetEvaluatorVersionId(targetEvaluatorVersionId)
+                    .matchedItemsCount(matchedItemsCount)
+                    .baseOnlyItemsCount(baseOnlyItemsCount)
+                    .targetOnlyItemsCount(targetOnlyItemsCount)
+                    .winCount(winCount)
+                    .lossCount(lossCount)
+                    .tieCount(tieCount)
+                    .regressions(regressionList)
+                    .improvements(improvementList);
+
+            if (matchedItemsCount > 0) {
+                double baseAverage = baseScoreSum / matchedItemsCount;
+                double targetAverage = targetScoreSum / matchedItemsCount;
+                builder.baseAverageScore(BigDecimal.valueOf(baseAverage).setScale(4, RoundingMode.HALF_UP))
+                        .targetAverageScore(BigDecimal.valueOf(targetAverage).setScale(4, RoundingMode.HALF_UP))
+                        .meanDelta(BigDecimal.valueOf(targetAverage - baseAverage).setScale(4, RoundingMode.HALF_UP));
+            }
+            return builder.build();
+        }
+    }
+}
@@ -1,35 +1,73 @@
 package com.alibaba.cloud.ai.studio.admin.service.impl;
 
 import com.alibaba.cloud.ai.studio.admin.common.PageResult;
+import com.alibaba.cloud.ai.studio.admin.config.ExperimentBatchProperties;
 import com.alibaba.cloud.ai.studio.admin.dto.*;
+import com.alibaba.cloud.ai.studio.admin.dto.VariableMapItem;
 import com.alibaba.cloud.ai.studio.admin.dto.request.*;
 import com.alibaba.cloud.ai.studio.admin.entity.*;
 import com.alibaba.cloud.ai.studio.admin.enums.ExperimentStatus;
 import com.alibaba.cloud.ai.studio.admin.exception.StudioException;
 import com.alibaba.cloud.ai.studio.admin.mapper.*;
+import com.alibaba.cloud.ai.studio.admin.repository.ModelConfigRepository;
+import com.alibaba.cloud.ai.studio.admin.repository.TracingRepository;
 import com.alibaba.cloud.ai.studio.admin.service.*;
+import com.alibaba.cloud.ai.studio.admin.service.advisors.TraceIdEnrichAdvisor;
+import com.alibaba.cloud.ai.studio.admin.service.client.HttpEvaluationClient;
+import com.alibaba.cloud.ai.studio.admin.service.client.OpenAiBatchClient;
+import com.alibaba.cloud.ai.studio.admin.service.client.OpenAiChatClientFactory;
+import com.alibaba.cloud.ai.studio.admin.service.evaluator.BuiltinMetricEvaluator;
 import com.alibaba.cloud.ai.studio.admin.utils.CommonUtils;
+import com.alibaba.cloud.ai.studio.admin.utils.ExperimentSamplingUtils;
 import com.alibaba.cloud.ai.studio.admin.utils.ModelConfigParser;
+import com.alibaba.cloud.ai.studio.admin.utils.ScoreHistogram;
+import com.alibaba.cloud.ai.studio.admin.utils.ScoreStatistics;
 import com.alibaba.fastjson.JSON;
 import com.alibaba.fastjson.JSONObject;
+import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static com.alibaba.cloud.ai.studio.admin.utils.SessionUtils.convertChatMessages;
 
@@ -41,11 +79,21 @@ public class ExperimentServiceImpl implements ExperimentService {
 
     private final ExperimentMapper experimentMapper;
     private final ExperimentResultMapper experimentResultMapper;
+    private final ExperimentFailureMapper experimentFailureMapper;
+    private final ExperimentItemMapper experimentItemMapper;
+    private final ExperimentSummaryMapper experimentSummaryMapper;
     private final DatasetVersionMapper datasetVersionMapper;
     private final EvaluatorMapper evaluatorMapper;
     private final EvaluatorVersionMapper evaluatorVersionMapper;
     private final DatasetItemMapper datasetItemMapper;
     private final ModelConfigParser modelConfigParser;
+    private final TracingRepository tracingRepository;
+    private final ModelConfigRepository modelConfigRepository;
+    private final OpenAiChatClientFactory openAiChatClientFactory;
+    private final HttpEvaluationClient httpEvaluationClient;
+    private final BuiltinMetricEvaluator builtinMetricEvaluator;
+    private final ExperimentBatchProperties experimentBatchProperties;
+    private final ObservationRegistry observationRegistry;
 
 
     @Autowired
@@ -60,22 +108,56 @@ public class ExperimentServiceImpl implements ExperimentService {
     // 创建线程池用于异步执行实验
     private final ExecutorService experimentExecutor = Executors.newFixedThreadPool(5);
 
+    /**
+     * 批处理任务状态轮询线程，轮询间隔内不占用实验线程池
+     */
+    private final ScheduledExecutorService batchPollScheduler = Executors.newSingleThreadScheduledExecutor();
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 2000;
+
+    private static final int APPEND_SCAN_PAGE_SIZE = 200;
+
+    private static final int COPY_BATCH_SIZE = 1000;
+
+    /**
+     * HTTP评测对象实验中每个实验的评估线程上限
+     */
+    private static final int MAX_HTTP_EVALUATION_THREADS = 16;
+
+    private static final String EXECUTION_MODE_BATCH = "batch";
+
+    private static final String BATCH_PROVIDER = "openai";
+
 
     @Override
     @Transactional
     public Experiment create(ExperimentCreateRequest request) {
         log.info("创建实验: {}", request);
 
+        // 校验采样配置
+        ExperimentSamplingConfig samplingConfig = parseSamplingConfig(request.getSamplingConfig());
+        if (samplingConfig != null) {
+            validateSamplingConfig(samplingConfig);
+        }
+        if (request.getBaseExperimentId() != null) {
+            if (samplingConfig != null) {
+                throw new IllegalArgumentException("Delta experiments do not support sampling");
+            }
+            validateBaseExperiment(request);
+        }
 
         // 构建实验实体
         ExperimentDO experimentDO = ExperimentDO.builder()
                 .name(request.getName())
                 .description(request.getDescription())
-                .datasetId(request.getDatasetId())
-                .datasetVersionId(request.getDatasetVersionId())
-                .datasetVersion(request.getDatasetVersion())
+                // trace 类型的评测对象不依赖数据集
+                .datasetId(request.getDatasetId() != null ? request.getDatasetId() : 0L)
+                .datasetVersionId(request.getDatasetVersionId() != null ? request.getDatasetVersionId() : 0L)
+                .datasetVersion(request.getDatasetVersion() != null ? request.getDatasetVersion() : "")
                 .evaluationObjectConfig(request.getEvaluationObjectConfig())
                 .evaluatorConfig(request.getEvaluatorConfig())
+                .samplingConfig(request.getSamplingConfig())
+                .baseExperimentId(request.getBaseExperimentId())
                 .status(String.valueOf(ExperimentStatus.RUNNING))
                 .progress(0)
                 .createTime(LocalDateTime.now())
@@ -123,10 +205,22 @@ public class ExperimentServiceImpl implements ExperimentService {
                 (long) totalCount,
                 (long) request.getPageNumber(),
                 (long) request.getPageSize(),
-                experimentDOList.stream()
-                        .map(Experiment::fromDO)
-                        .toList());
+                toExperimentsWithSummaries(experimentDOList));
+
+    }
 
+    @Override
+    public List<Experiment> toExperimentsWithSummaries(List<ExperimentDO> experimentDOList) {
+        if (experimentDOList.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<ExperimentSummaryDO>> summaries = experimentSummaryMapper.selectByExperimentIds(
+                        experimentDOList.stream().map(ExperimentDO::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(ExperimentSummaryDO::getExperimentId));
+        return experimentDOList.stream()
+                .map(experimentDO -> Experiment.fromDO(experimentDO, summaries.get(experimentDO.getId())))
+                .toList();
     }
 
     @Override
@@ -147,17 +241,26 @@ public class ExperimentServiceImpl implements ExperimentService {
 
         List<EvaluatorConfig> evaluatorConfigList = JSON.parseArray(experiment.getEvaluatorConfig(), EvaluatorConfig.class);
 
+        Map<Long, String> evaluatorNames;
+        try {
+            List<Long> evaluatorIds = evaluatorConfigList.stream()
+                    .filter(Objects::nonNull)
+                    .map(EvaluatorConfig::getEvaluatorId)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+            evaluatorNames = evaluatorIds.isEmpty() ? Map.of()
+                    : evaluatorMapper.selectByIds(evaluatorIds).stream()
+                            .collect(Collectors.toMap(EvaluatorDO::getId, EvaluatorDO::getName));
+        } catch (Exception e) {
+            log.warn("Failed to fetch evaluator names for experiment: {}", id, e);
+            evaluatorNames = null;
+        }
+        Map<Long, String> names = evaluatorNames;
         evaluatorConfigList.stream()
                 .filter(Objects::nonNull)
-                .forEach(evaluatorConfig -> {
-                    try {
-                        EvaluatorDO evaluatorDO = evaluatorMapper.selectById(evaluatorConfig.getEvaluatorId());
-                        evaluatorConfig.setEvaluatorName(evaluatorDO != null ? evaluatorDO.getName() : "Unknown Evaluator");
-                    } catch (Exception e) {
-                        log.warn("Failed to fetch evaluator name for id: {}", evaluatorConfig.getEvaluatorId(), e);
-                        evaluatorConfig.setEvaluatorName("Error Fetching Name");
-                    }
-                });
+                .forEach(evaluatorConfig -> evaluatorConfig.setEvaluatorName(names == null ? "Error Fetching Name"
+                        : names.getOrDefault(evaluatorConfig.getEvaluatorId(), "Unknown Evaluator")));
         experiment.setEvaluatorConfig(JSON.toJSONString(evaluatorConfigList));
         return experiment;
     }
@@ -173,12 +276,18 @@ public class ExperimentServiceImpl implements ExperimentService {
             return null;
         }
 
-        Integer dataCount = datasetVersionMapper.selectById(experiment.getDatasetVersionId()).getDataCount();
+        // trace 类型的实验没有数据集版本，总量未知，进度取实验自身进度
+        DatasetVersionDO datasetVersion = datasetVersionMapper.selectById(experiment.getDatasetVersionId());
+        boolean datasetBased = datasetVersion != null;
+        Integer dataCount = datasetBased ? datasetVersion.getDataCount() : null;
         // 检查dataCount是否为null或0，避免除零异常
-        if (dataCount == null || dataCount == 0) {
+        if (datasetBased && (dataCount == null || dataCount == 0)) {
             log.warn("数据集版本数据量为0或不存在: {}", experiment.getDatasetVersionId());
             dataCount = 1; // 避免除零异常，设置默认值
         }
+        if (!datasetBased) {
+            dataCount = 1;
+        }
 
 
         // 正确解析 evaluatorConfig JSON 数组字符串为 List<EvaluatorConfig>
@@ -189,29 +298,67 @@ public class ExperimentServiceImpl implements ExperimentService {
                 .map(e -> Long.valueOf(e.getEvaluatorVersionId()))
                 .toList();
 
-        // 使用stream map collect方式构建结果列表
+        // 采样实验的总量为样本数量
+        ExperimentSamplingConfig samplingConfig = parseSamplingConfig(experiment.getSamplingConfig());
+        if (samplingConfig != null) {
+            dataCount = Math.max(samplingConfig.resolveSampleSize(dataCount), 1);
+        }
+        double confidenceLevel = samplingConfig != null && samplingConfig.getConfidenceLevel() != null
+                ? samplingConfig.getConfidenceLevel() : 0.95;
+
+        // 在数据库中按评估器聚合，避免把全部结果行加载到内存
+        Map<Long, ExperimentResultStatsDO> statsMap = experimentResultMapper.selectStatsByExperimentId(experimentId)
+                .stream()
+                .collect(Collectors.toMap(ExperimentResultStatsDO::getEvaluatorVersionId, stats -> stats));
+
+        // 失败项：评测对象阶段失败（evaluatorVersionId为0）计入所有评估器
+        List<ExperimentFailureDO> failures = experimentFailureMapper.selectByExperimentId(experimentId);
+
         Integer finalDataCount = dataCount;
         return evaluatorList.stream().map(evaluatorVersionId -> {
-            List<ExperimentResultDO> resultList = experimentResultMapper.selectByExperimentAndEvaluator(experimentId, evaluatorVersionId);
-            //计算score的平均值，避免除零异常
-            BigDecimal averageScore = BigDecimal.ZERO;
-            if (resultList != null && !resultList.isEmpty()) {
-                averageScore = resultList.stream()
-                        .map(ExperimentResultDO::getScore)
-                        .filter(score -> score != null) // 过滤掉空值
-                        .reduce(BigDecimal.ZERO, BigDecimal::add)
-                        .divide(new BigDecimal(resultList.size()), 2, BigDecimal.ROUND_HALF_UP);
-            }
-            int completeItemsCount = (resultList != null) ? resultList.size() : 0;
-            Integer progress = completeItemsCount * 100 / finalDataCount;
-            return ExperimentEvaluatorResult.builder()
+            ExperimentResultStatsDO stats = statsMap.get(evaluatorVersionId);
+            int completeItemsCount = stats != null && stats.getResultCount() != null ? stats.getResultCount() : 0;
+            int failedItemsCount = (int) failures.stream()
+                    .filter(failure -> evaluatorVersionId.equals(failure.getEvaluatorVersionId())
+                            || ExperimentFailureDO.TARGET_STAGE_EVALUATOR_ID.equals(failure.getEvaluatorVersionId()))
+                    .map(failure -> List.of(failure.getDatasetItemId(), failure.getSourceKey()))
+                    .distinct()
+                    .count();
+            BigDecimal averageScore = stats != null && stats.getAvgScore() != null
+                    ? stats.getAvgScore().setScale(2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
+
+            ExperimentEvaluatorResult.ExperimentEvaluatorResultBuilder builder = ExperimentEvaluatorResult.builder()
                     .experimentId(experimentId)
                     .averageScore(averageScore)
                     .evaluatorVersionId(evaluatorVersionId)
-                    .progress(progress)
+                    .progress(datasetBased
+                            ? Math.min((completeItemsCount + failedItemsCount) * 100 / finalDataCount, 100)
+                            : experiment.getProgress())
                     .completeItemsCount(completeItemsCount)
-                    .totalItemsCount(finalDataCount)
-                    .build();
+                    .failedItemsCount(failedItemsCount)
+                    .totalItemsCount(datasetBased ? finalDataCount : null);
+
+            if (stats != null && stats.getAvgScore() != null && stats.getStddevScore() != null) {
+                double mean = stats.getAvgScore().doubleValue();
+                double halfWidth = ScoreStatistics.halfWidth(stats.getStddevScore(), completeItemsCount, confidenceLevel);
+                builder.scoreStdDev(BigDecimal.valueOf(stats.getStddevScore()).setScale(4, RoundingMode.HALF_UP))
+                        .confidenceLowerBound(BigDecimal.valueOf(mean - halfWidth).setScale(4, RoundingMode.HALF_UP))
+                        .confidenceUpperBound(BigDecimal.valueOf(mean + halfWidth).setScale(4, RoundingMode.HALF_UP));
+            }
+            if (stats != null) {
+                long promptTokens = stats.getPromptTokens() != null ? stats.getPromptTokens() : 0L;
+                long completionTokens = stats.getCompletionTokens() != null ? stats.getCompletionTokens() : 0L;
+                long judgeTokens = stats.getJudgeTokens() != null ? stats.getJudgeTokens() : 0L;
+                builder.targetLatencyP50Ms(stats.getTargetLatencyP50())
+                        .targetLatencyP95Ms(stats.getTargetLatencyP95())
+                        .judgeLatencyP50Ms(stats.getJudgeLatencyP50())
+                        .judgeLatencyP95Ms(stats.getJudgeLatencyP95())
+                        .promptTokens(promptTokens)
+                        .completionTokens(completionTokens)
+                        .judgeTokens(judgeTokens)
+                        .totalTokens(promptTokens + completionTokens + judgeTokens);
+            }
+            return builder.build();
         }).collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
     }
 
@@ -255,6 +402,109 @@ public class ExperimentServiceImpl implements ExperimentService {
 
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void exportResults(ExperimentResultExportRequest request, OutputStream outputStream) throws IOException {
+        log.info("导出实验结果: experimentId={}, evaluatorVersionId={}, format={}",
+                request.getExperimentId(), request.getEvaluatorVersionId(), request.getFormat());
+
+        ExperimentDO experiment = experimentMapper.selectById(request.getExperimentId());
+        if (experiment == null) {
+            throw new IllegalArgumentException("Experiment not found: " + request.getExperimentId());
+        }
+
+        boolean jsonl = "jsonl".equalsIgnoreCase(request.getFormat());
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+
+        // 游标需要在事务内保持连接，逐行读取逐行写出，内存占用与结果总量无关
+        long count = 0;
+        try (Cursor<ExperimentResultDO> cursor = experimentResultMapper.selectCursorByExperimentId(
+                request.getExperimentId(), request.getEvaluatorVersionId())) {
+            if (!jsonl) {
+                writer.write(String.join(",", EXPORT_COLUMNS));
+                writer.write('\n');
+            }
+            for (ExperimentResultDO result : cursor) {
+                if (jsonl) {
+                    writeJsonLine(writer, result);
+                } else {
+                    writeCsvLine(writer, result);
+                }
+                count++;
+            }
+        }
+        writer.flush();
+        log.info("实验结果导出完成: experimentId={}, rows={}", request.getExperimentId(), count);
+    }
+
+    private static final String[] EXPORT_COLUMNS = {
+            "id", "experimentId", "datasetItemId", "evaluatorVersionId", "input", "actualOutput",
+            "referenceOutput", "score", "reason", "evaluationTime"
+    };
+
+    private void writeJsonLine(Writer writer, ExperimentResultDO result) throws IOException {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", result.getId());
+        row.put("experimentId", result.getExperimentId());
+        row.put("datasetItemId", result.getDatasetItemId());
+        row.put("evaluatorVersionId", result.getEvaluatorVersionId());
+        row.put("input", result.getInput());
+        row.put("actualOutput", result.getActualOutput());
+        row.put("referenceOutput", result.getReferenceOutput());
+        row.put("score", result.getScore());
+        row.put("reason", result.getReason());
+        row.put("evaluationTime", result.getEvaluationTime() != null ? result.getEvaluationTime().toString() : null);
+        writer.write(JSON.toJSONString(row));
+        writer.write('\n');
+    }
+
+    private void writeCsvLine(Writer writer, ExperimentResultDO result) throws IOException {
+        writer.write(String.valueOf(result.getId()));
+        writer.write(',');
+        writer.write(String.valueOf(result.getExperimentId()));
+        writer.write(',');
+        writer.write(result.getDatasetItemId() != null ? String.valueOf(result.getDatasetItemId()) : "");
+        writer.write(',');
+        writer.write(result.getEvaluatorVersionId() != null ? String.valueOf(result.getEvaluatorVersionId()) : "");
+        writer.write(',');
+        writeCsvField(writer, result.getInput());
+        writer.write(',');
+        writeCsvField(writer, result.getActualOutput());
+        writer.write(',');
+        writeCsvField(writer, result.getReferenceOutput());
+        writer.write(',');
+        writer.write(result.getScore() != null ? result.getScore().toPlainString() : "");
+        writer.write(',');
+        writeCsvField(writer, result.getReason());
+        writer.write(',');
+        writer.write(result.getEvaluationTime() != null ? result.getEvaluationTime().toString() : "");
+        writer.write('\n');
+    }
+
+    /**
+     * 按RFC 4180转义CSV字段：包含逗号、引号或换行时整体加引号，内部引号双写
+     */
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        boolean needQuote = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                needQuote = true;
+                break;
+            }
+        }
+        if (!needQuote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
     @Override
     @Transactional
     public Experiment stop(Long id) {
@@ -291,6 +541,7 @@ public class ExperimentServiceImpl implements ExperimentService {
             throw new RuntimeException("Failed to stop experiment");
         }
         
+        refreshSummary(id);
         log.info("实验停止成功: {}", id);
         return Experiment.fromDO(experimentDO);
     }
@@ -320,6 +571,7 @@ public class ExperimentServiceImpl implements ExperimentService {
         if (result <= 0) {
             throw new RuntimeException("Failed to delete experiment");
         }
+        experimentSummaryMapper.deleteByExperimentId(id);
 //
 //        // 删除相关的实验结果
 //        experimentResultMapper.deleteByExperimentId(id);
@@ -331,6 +583,9 @@ public class ExperimentServiceImpl implements ExperimentService {
     public void restartById(Long id) {
         //清理历史数据
         experimentResultMapper.deleteByExperimentId(id);
+        experimentItemMapper.deleteByExperimentId(id);
+        experimentFailureMapper.deleteByExperimentId(id);
+        experimentSummaryMapper.deleteByExperimentId(id);
         //实验执行
 
         ExperimentDO experimentDO = experimentMapper.selectById(id);
@@ -342,6 +597,240 @@ public class ExperimentServiceImpl implements ExperimentService {
 
 
 
+    @Override
+    public void rerunFailed(Long id) {
+        log.info("重跑实验失败及缺失项: {}", id);
+
+        if (id == null) {
+            throw new IllegalArgumentException("Experiment ID cannot be null");
+        }
+
+        ExperimentDO experimentDO = experimentMapper.selectById(id);
+        if (experimentDO == null) {
+            throw new IllegalArgumentException("Experiment not found: " + id);
+        }
+        if (ExperimentStatus.RUNNING.getCode().equals(experimentDO.getStatus())) {
+            throw new IllegalStateException("Experiment is running: " + id);
+        }
+        EvaluationObjectConfig evaluationObjectConfig = JSONObject.parseObject(experimentDO.getEvaluationObjectConfig(), EvaluationObjectConfig.class);
+        if ("trace".equals(evaluationObjectConfig.getType())) {
+            throw new IllegalStateException("Trace experiments cannot be re-run selectively, restart instead: " + id);
+        }
+
+        updateExperimentStatus(id, ExperimentStatus.RUNNING, 0);
+        experimentExecutor.submit(() -> {
+            try {
+                rerunMissingPairs(experimentDO);
+            } catch (Exception e) {
+                log.error("重跑实验过程中发生错误: {}", id, e);
+                updateExperimentStatus(id, ExperimentStatus.FAILED, null);
+            }
+        });
+    }
+
+    @Override
+    public List<ExperimentFailure> getFailures(Long experimentId) {
+        log.info("查询实验失败项: {}", experimentId);
+        return experimentFailureMapper.selectByExperimentId(experimentId).stream()
+                .map(ExperimentFailure::fromDO)
+                .toList();
+    }
+
+    @Override
+    public Experiment appendEvaluators(ExperimentEvaluatorAppendRequest request) {
+        log.info("追加实验评估器: {}", request);
+
+        ExperimentDO experimentDO = experimentMapper.selectById(request.getExperimentId());
+        if (experimentDO == null) {
+            throw new IllegalArgumentException("Experiment not found: " + request.getExperimentId());
+        }
+        if (ExperimentStatus.RUNNING.getCode().equals(experimentDO.getStatus())) {
+            throw new IllegalStateException("Experiment is running: " + request.getExperimentId());
+        }
+
+        List<EvaluatorConfig> evaluatorConfigs = JSON.parseArray(experimentDO.getEvaluatorConfig(), EvaluatorConfig.class);
+        Set<Long> existingVersionIds = evaluatorConfigs.stream()
+                .map(EvaluatorConfig::getEvaluatorVersionId)
+                .collect(Collectors.toSet());
+
+        // 已存在的评估器版本不重复追加
+        List<EvaluatorConfig> appendedConfigs = JSON.parseArray(request.getEvaluatorConfig(), EvaluatorConfig.class).stream()
+                .filter(evaluatorConfig -> !existingVersionIds.contains(evaluatorConfig.getEvaluatorVersionId()))
+                .toList();
+        if (appendedConfigs.isEmpty()) {
+            log.info("实验 {} 没有需要追加的评估器", request.getExperimentId());
+            return Experiment.fromDO(experimentDO);
+        }
+
+        List<EvaluatorConfig> mergedConfigs = new ArrayList<>(evaluatorConfigs);
+        mergedConfigs.addAll(appendedConfigs);
+        experimentDO.setEvaluatorConfig(JSON.toJSONString(mergedConfigs));
+        experimentDO.setStatus(ExperimentStatus.RUNNING.getCode());
+        experimentDO.setProgress(0);
+        experimentMapper.updateById(experimentDO);
+
+        experimentExecutor.submit(() -> {
+            try {
+                runAppendedEvaluators(experimentDO, appendedConfigs);
+            } catch (Exception e) {
+                log.error("追加评估器执行过程中发生错误: {}", experimentDO.getId(), e);
+                updateExperimentStatus(experimentDO.getId(), ExperimentStatus.FAILED, null);
+            }
+        });
+
+        return Experiment.fromDO(experimentDO);
+    }
+
+    /**
+     * 按ID顺序分页扫描实验数据项，复用其已保存的实际输出只执行新追加的评估器。
+     * 实验数据项每个评估项一条，与评估器结果是否成功无关，首个评估器失败的数据项同样会被覆盖
+     */
+    private void runAppendedEvaluators(ExperimentDO experimentDO, List<EvaluatorConfig> appendedConfigs) {
+        Long experimentId = experimentDO.getId();
+        // 新写入的数据项ID都大于该上界，不会被扫描到
+        Long maxId = experimentItemMapper.selectMaxIdByExperimentId(experimentId);
+        if (maxId == null) {
+            log.info("实验 {} 没有已有数据项，无需执行追加的评估器", experimentId);
+            updateExperimentStatus(experimentId, ExperimentStatus.COMPLETED, 100);
+            return;
+        }
+
+        long lastId = 0L;
+        Long firstId = null;
+        int processedItems = 0;
+        log.info("实验 {} 开始执行追加的评估器: {}", experimentId, appendedConfigs.size());
+
+        while (true) {
+            if (isExperimentStopped(experimentId)) {
+                log.info("实验 {} 已被停止", experimentId);
+                return;
+            }
+
+            List<Long> pageIds = experimentItemMapper.selectIdsAfterId(experimentId, lastId, maxId, APPEND_SCAN_PAGE_SIZE);
+            if (pageIds.isEmpty()) {
+                break;
+            }
+            lastId = pageIds.get(pageIds.size() - 1);
+            List<ExperimentItemDO> experimentItems = experimentItemMapper.selectByIds(pageIds);
+
+            // 批量加载本页数据项内容，评估器变量可能引用数据集中的任意列
+            List<Long> datasetItemIds = experimentItems.stream()
+                    .map(ExperimentItemDO::getDatasetItemId)
+                    .filter(Objects::nonNull)
+                    .toList();
+            Map<Long, DatasetItemDO> datasetItems = datasetItemIds.isEmpty() ? Map.of()
+                    : datasetItemMapper.selectByDatasetIdAndItemIds(experimentDO.getDatasetId(), datasetItemIds).stream()
+                            .collect(Collectors.toMap(DatasetItemDO::getId, item -> item));
+
+            for (ExperimentItemDO experimentItem : experimentItems) {
+                DatasetItemDO datasetItem = experimentItem.getDatasetItemId() != null
+                        ? datasetItems.get(experimentItem.getDatasetItemId()) : null;
+                // 不来自数据集的评估项（如Trace回放）使用首次评估时保存的数据内容，与原评估器看到的变量一致
+                String savedContent = datasetItem != null ? datasetItem.getDataContent() : experimentItem.getDataContent();
+                JSONObject dataContent = StringUtils.hasText(savedContent)
+                        ? JSONObject.parseObject(savedContent) : new JSONObject();
+                dataContent.putIfAbsent("input", experimentItem.getInput());
+                dataContent.putIfAbsent("reference_output", experimentItem.getReferenceOutput());
+                evaluateItem(experimentId, experimentItem.getDatasetItemId(), dataContent, appendedConfigs,
+                        toTargetOutput(experimentItem), null, null, false);
+                processedItems++;
+            }
+
+            // 按已扫描的ID区间估算进度
+            if (firstId == null) {
+                firstId = pageIds.get(0);
+            }
+            updateExperimentProgress(experimentId, (int) ((lastId - firstId) * 100 / Math.max(maxId - firstId, 1)));
+        }
+
+        log.info("实验 {} 追加的评估器执行完成，共处理 {} 个数据项", experimentId, processedItems);
+        updateExperimentStatus(experimentId, ExperimentStatus.COMPLETED, 100);
+    }
+
+    /**
+     * 只重跑缺少结果的（数据项，评估器）组合，已保存的评测对象输出直接复用
+     */
+    private void rerunMissingPairs(ExperimentDO experimentDO) throws StudioException {
+        Long experimentId = experimentDO.getId();
+        Function<JSONObject, EvaluationTargetOutput> target = buildTarget(experimentDO);
+        List<EvaluatorConfig> evaluatorConfigs = JSON.parseArray(experimentDO.getEvaluatorConfig(), EvaluatorConfig.class);
+        Set<Long> evaluatorVersionIds = evaluatorConfigs.stream()
+                .map(EvaluatorConfig::getEvaluatorVersionId)
+                .collect(Collectors.toSet());
+
+        // 已有结果的组合
+        Map<Long, Set<Long>> evaluatedPairs = new HashMap<>();
+        for (ExperimentResultDO pair : experimentResultMapper.selectEvaluatedPairs(experimentId)) {
+            evaluatedPairs.computeIfAbsent(pair.getDatasetItemId(), k -> new HashSet<>()).add(pair.getEvaluatorVersionId());
+        }
+
+        // 候选数据项：全量实验为数据集版本的全部数据项，采样实验为实际尝试过的数据项
+        List<Long> candidateItemIds;
+        if (parseSamplingConfig(experimentDO.getSamplingConfig()) == null) {
+            DatasetVersionDO datasetVersion = datasetVersionMapper.selectById(experimentDO.getDatasetVersionId());
+            candidateItemIds = CommonUtils.parseItemIds(datasetVersion.getDatasetItems());
+        } else {
+            Set<Long> attempted = new LinkedHashSet<>(evaluatedPairs.keySet());
+            experimentFailureMapper.selectByExperimentId(experimentId)
+                    .forEach(failure -> attempted.add(failure.getDatasetItemId()));
+            candidateItemIds = new ArrayList<>(attempted);
+        }
+
+        List<Long> pendingItemIds = candidateItemIds.stream()
+                .filter(itemId -> !evaluatedPairs.getOrDefault(itemId, Set.of()).containsAll(evaluatorVersionIds))
+                .toList();
+        if (pendingItemIds.isEmpty()) {
+            log.info("实验 {} 没有需要重跑的数据项", experimentId);
+            updateExperimentStatus(experimentId, ExperimentStatus.COMPLETED, 100);
+            return;
+        }
+
+        List<DatasetItemDO> datasetItems = datasetItemMapper.selectByDatasetIdAndItemIds(experimentDO.getDatasetId(), pendingItemIds);
+        int totalItems = datasetItems.size();
+        int processedItems = 0;
+        log.info("实验 {} 开始重跑 {} 个数据项", experimentId, totalItems);
+
+        for (DatasetItemDO datasetItem : datasetItems) {
+            if (isExperimentStopped(experimentId)) {
+                log.info("实验 {} 已被停止", experimentId);
+                return;
+            }
+
+            Set<Long> done = evaluatedPairs.getOrDefault(datasetItem.getId(), Set.of());
+            List<EvaluatorConfig> pendingEvaluators = evaluatorConfigs.stream()
+                    .filter(evaluatorConfig -> !done.contains(evaluatorConfig.getEvaluatorVersionId()))
+                    .toList();
+            // 评估器全部失败的数据项同样已保存评测对象输出，复用已有输出，避免重复调用评测对象和重复写入
+            ExperimentItemDO experimentItem = experimentItemMapper.selectByDatasetItemId(experimentId, datasetItem.getId());
+
+            evaluateItem(experimentId, datasetItem, pendingEvaluators,
+                    experimentItem != null ? toTargetOutput(experimentItem) : null, target, null, true);
+
+            processedItems++;
+            updateExperimentProgress(experimentId, processedItems * 100 / totalItems);
+        }
+
+        log.info("实验 {} 重跑完成，共处理 {} 个数据项", experimentId, totalItems);
+        updateExperimentStatus(experimentId, ExperimentStatus.COMPLETED, 100);
+    }
+
+    /**
+     * 根据评测对象配置构建评测对象调用
+     */
+    private Function<JSONObject, EvaluationTargetOutput> buildTarget(ExperimentDO experimentDO) throws StudioException {
+        EvaluationObjectConfig evaluationObjectConfig = JSONObject.parseObject(experimentDO.getEvaluationObjectConfig(), EvaluationObjectConfig.class);
+        if ("prompt".equals(evaluationObjectConfig.getType())) {
+            EvaluationPromptConfig evaluationPromptConfig = JSONObject.parseObject(evaluationObjectConfig.getConfig(), EvaluationPromptConfig.class);
+            PromptVersionDetail prompt = promptVersionService.getByPromptKeyAndVersion(evaluationPromptConfig.getPromptKey(), evaluationPromptConfig.getVersion());
+            return dataContent -> getPromptResult(prompt, dataContent, evaluationPromptConfig);
+        }
+        if ("http".equals(evaluationObjectConfig.getType())) {
+            EvaluationHttpConfig httpConfig = parseHttpConfig(evaluationObjectConfig.getConfig());
+            return dataContent -> httpEvaluationClient.call(httpConfig, dataContent);
+        }
+        throw new StudioException(StudioException.INVALID_PARAM, "Unsupported evaluation object type: " + evaluationObjectConfig.getType());
+    }
+
     /**
      * 启动实验执行
      */
@@ -377,29 +866,244 @@ public class ExperimentServiceImpl implements ExperimentService {
         //解析实验 目标 配置
 
         EvaluationObjectConfig evaluationObjectConfig = JSONObject.parseObject(experimentDO.getEvaluationObjectConfig(),EvaluationObjectConfig.class);
-        if(evaluationObjectConfig.getType().equals("prompt")){
+        if (experimentDO.getBaseExperimentId() != null) {
+            deltaEvaluation(experimentDO);
+
+        } else if(evaluationObjectConfig.getType().equals("prompt")){
             promptEvaluation(experimentDO);
 
+        } else if ("trace".equals(evaluationObjectConfig.getType())) {
+            traceEvaluation(experimentDO);
+        } else if ("http".equals(evaluationObjectConfig.getType())) {
+            httpEvaluation(experimentDO);
+        } else {
+            throw new StudioException(StudioException.INVALID_PARAM, "Unsupported evaluation object type: " + evaluationObjectConfig.getType());
         }
     }
 
+    /**
+     * 增量评估：先从基准实验复制共有数据项、共有评估器版本的结果，再只执行缺失的（数据项，评估器）组合。
+     * 结果表中包含数据集版本的全部数据项，聚合结果覆盖整个版本
+     */
+    private void deltaEvaluation(ExperimentDO experimentDO) throws StudioException {
+        Long experimentId = experimentDO.getId();
+        ExperimentDO baseExperiment = experimentMapper.selectById(experimentDO.getBaseExperimentId());
+        if (baseExperiment == null) {
+            throw new StudioException(StudioException.NOT_FOUND, "Base experiment not found: " + experimentDO.getBaseExperimentId());
+        }
 
+        // 评估器版本相同且变量映射一致时结论才可复用，映射调整过的评估器重新执行
+        Map<Long, Set<VariableMapItem>> baseVariableMaps = new HashMap<>();
+        for (EvaluatorConfig baseConfig : JSON.parseArray(baseExperiment.getEvaluatorConfig(), EvaluatorConfig.class)) {
+            baseVariableMaps.put(baseConfig.getEvaluatorVersionId(), variableMapOf(baseConfig));
+        }
+        List<Long> sharedEvaluatorVersionIds = JSON.parseArray(experimentDO.getEvaluatorConfig(), EvaluatorConfig.class).stream()
+                .filter(evaluatorConfig -> baseVariableMaps.containsKey(evaluatorConfig.getEvaluatorVersionId())
+                        && baseVariableMaps.get(evaluatorConfig.getEvaluatorVersionId()).equals(variableMapOf(evaluatorConfig)))
+                .map(EvaluatorConfig::getEvaluatorVersionId)
+                .distinct()
+                .toList();
 
-    private void promptEvaluation(ExperimentDO experimentDO) throws StudioException {
-        EvaluationObjectConfig evaluationObjectConfig = JSONObject.parseObject(experimentDO.getEvaluationObjectConfig(),EvaluationObjectConfig.class);
-        EvaluationPromptConfig evaluationPromptConfig = JSONObject.parseObject(evaluationObjectConfig.getConfig(),EvaluationPromptConfig.class);
+        if (!sharedEvaluatorVersionIds.isEmpty()) {
+            DatasetVersionDO datasetVersion = datasetVersionMapper.selectById(experimentDO.getDatasetVersionId());
+            List<Long> itemIds = CommonUtils.parseItemIds(datasetVersion.getDatasetItems());
+            int copied = 0;
+            for (int from = 0; from < itemIds.size(); from += COPY_BATCH_SIZE) {
+                List<Long> batch = itemIds.subList(from, Math.min(from + COPY_BATCH_SIZE, itemIds.size()));
+                experimentItemMapper.copyFromExperiment(experimentId, baseExperiment.getId(),
+                        sharedEvaluatorVersionIds, batch);
+                copied += experimentResultMapper.copyFromExperiment(experimentId, baseExperiment.getId(),
+                        sharedEvaluatorVersionIds, batch);
+            }
+            log.info("实验 {} 从基准实验 {} 复制 {} 条结果", experimentId, baseExperiment.getId(), copied);
+        }
+
+        rerunMissingPairs(experimentDO);
+    }
+
+    /**
+     * 评估器变量映射按集合比较，与配置顺序无关
+     */
+    private Set<VariableMapItem> variableMapOf(EvaluatorConfig evaluatorConfig) {
+        return evaluatorConfig.getVariableMap() != null ? new HashSet<>(evaluatorConfig.getVariableMap()) : Set.of();
+    }
+
+    /**
+     * 校验基准实验：必须存在、未在运行，且评测对象为同一Prompt版本、数据集相同
+     */
+    private void validateBaseExperiment(ExperimentCreateRequest request) {
+        ExperimentDO baseExperiment = experimentMapper.selectById(request.getBaseExperimentId());
+        if (baseExperiment == null) {
+            throw new IllegalArgumentException("Base experiment not found: " + request.getBaseExperimentId());
+        }
+        if (ExperimentStatus.RUNNING.getCode().equals(baseExperiment.getStatus())) {
+            throw new IllegalArgumentException("Base experiment is running: " + request.getBaseExperimentId());
+        }
+        if (!Objects.equals(baseExperiment.getDatasetId(), request.getDatasetId())) {
+            throw new IllegalArgumentException("Base experiment must use the same dataset");
+        }
+
+        EvaluationObjectConfig baseObjectConfig = JSONObject.parseObject(baseExperiment.getEvaluationObjectConfig(), EvaluationObjectConfig.class);
+        EvaluationObjectConfig objectConfig = JSONObject.parseObject(request.getEvaluationObjectConfig(), EvaluationObjectConfig.class);
+        if (!"prompt".equals(objectConfig.getType()) || !"prompt".equals(baseObjectConfig.getType())) {
+            throw new IllegalArgumentException("Delta experiments only support prompt evaluation objects");
+        }
+        EvaluationPromptConfig basePromptConfig = JSONObject.parseObject(baseObjectConfig.getConfig(), EvaluationPromptConfig.class);
+        EvaluationPromptConfig promptConfig = JSONObject.parseObject(objectConfig.getConfig(), EvaluationPromptConfig.class);
+        if (!Objects.equals(basePromptConfig.getPromptKey(), promptConfig.getPromptKey())
+                || !Objects.equals(basePromptConfig.getVersion(), promptConfig.getVersion())
+                || !Objects.equals(basePromptConfig.getVariableMap(), promptConfig.getVariableMap())) {
+            throw new IllegalArgumentException("Base experiment must use the same prompt version and variable mapping");
+        }
+    }
 
+    /**
+     * Trace回放评估：按游标分页拉取Span，直接以Span中记录的输出作为实际输出执行评估器，不再调用评测对象
+     */
+    private void traceEvaluation(ExperimentDO experimentDO) {
+        EvaluationObjectConfig evaluationObjectConfig = JSONObject.parseObject(experimentDO.getEvaluationObjectConfig(), EvaluationObjectConfig.class);
+        EvaluationTraceConfig traceConfig = JSONObject.parseObject(evaluationObjectConfig.getConfig(), EvaluationTraceConfig.class);
         Long experimentId = experimentDO.getId();
 
-        // 获取数据集中的所有数据项
+        TracesQueryRequest queryRequest = new TracesQueryRequest();
+        queryRequest.setStartTime(traceConfig.getStartTime());
+        queryRequest.setEndTime(traceConfig.getEndTime());
+        queryRequest.setServiceName(traceConfig.getServiceName());
+        queryRequest.setSpanName(traceConfig.getSpanName());
+        queryRequest.setAttributes(traceConfig.getAttributes());
+        int pageSize = traceConfig.getPageSize() != null ? traceConfig.getPageSize() : EvaluationTraceConfig.DEFAULT_PAGE_SIZE;
+        queryRequest.setPageSize(Math.min(Math.max(pageSize, 1), 200));
+
+        List<EvaluatorConfig> evaluatorConfigs = JSON.parseArray(experimentDO.getEvaluatorConfig(), EvaluatorConfig.class);
+        int maxSpans = traceConfig.getMaxSpans() != null ? traceConfig.getMaxSpans() : EvaluationTraceConfig.DEFAULT_MAX_SPANS;
+        int processedSpans = 0;
+        List<Object> searchAfter = null;
+
+        log.info("实验 {} 开始回放Trace: {}", experimentId, traceConfig);
+
+        do {
+            if (isExperimentStopped(experimentId)) {
+                log.info("实验 {} 已被停止", experimentId);
+                return;
+            }
 
-        DatasetVersionDO datasetVersion = datasetVersionMapper.selectById(experimentDO.getDatasetVersionId());
+            TraceScrollPage page = tracingRepository.scrollTraces(queryRequest, searchAfter);
+            long total = Math.min(page.getTotalCount() != null ? page.getTotalCount() : 0, maxSpans);
 
-        List<Long> itemIds = CommonUtils.parseItemIds(datasetVersion.getDatasetItems());
+            for (TraceSpanDTO span : page.getSpans()) {
+                if (processedSpans >= maxSpans) {
+                    break;
+                }
+                JSONObject dataContent = buildTraceDataContent(span, traceConfig);
+                String actualOutput = dataContent.getString("actual_output");
+                if (!StringUtils.hasText(actualOutput)) {
+                    log.debug("Span缺少输出属性，跳过: traceId={}, spanId={}", span.getTraceId(), span.getSpanId());
+                    continue;
+                }
+                // Span不属于任何数据集，数据项ID为空；调用指标取自Span本身
+                Map<String, Object> attributes = span.getAttributes() != null ? span.getAttributes() : Map.of();
+                EvaluationTargetOutput targetOutput = EvaluationTargetOutput.builder()
+                        .content(actualOutput)
+                        .latencyMs(span.getDurationNs() != null ? span.getDurationNs() / 1_000_000 : null)
+                        .promptTokens(toInteger(resolveAttribute(attributes, "gen_ai.usage.input_tokens")))
+                        .completionTokens(toInteger(resolveAttribute(attributes, "gen_ai.usage.output_tokens")))
+                        .traceId(span.getTraceId())
+                        .build();
+                evaluateItem(experimentId, null, dataContent, evaluatorConfigs, targetOutput, null, null, false);
+                processedSpans++;
+            }
 
-        List<DatasetItemDO> datasetItems = datasetItemMapper.selectByDatasetIdAndItemIds(
-                datasetVersion.getDatasetId(), itemIds);
+            if (total > 0) {
+                updateExperimentProgress(experimentId, (int) Math.min(processedSpans * 100 / total, 100));
+            }
+            searchAfter = page.getNextSearchAfter();
+        } while (searchAfter != null && processedSpans < maxSpans);
+
+        log.info("实验 {} Trace回放完成，共评估 {} 个Span", experimentId, processedSpans);
+        updateExperimentStatus(experimentId, ExperimentStatus.COMPLETED, 100);
+    }
+
+    /**
+     * 将Span转换为评估器可用的数据内容：input/actual_output/reference_output 取自配置的属性，
+     * 同时保留全部属性，评估器变量映射可以直接引用任意属性名
+     */
+    private JSONObject buildTraceDataContent(TraceSpanDTO span, EvaluationTraceConfig traceConfig) {
+        Map<String, Object> attributes = span.getAttributes() != null ? span.getAttributes() : Map.of();
+        JSONObject dataContent = new JSONObject();
+        attributes.forEach((key, value) -> dataContent.put(key, attributeToString(value)));
+        dataContent.put("trace_id", span.getTraceId());
+        dataContent.put("span_id", span.getSpanId());
+        // 缺少输入属性的Span仍可按输出评估，输入记为空串
+        String input = attributeToString(resolveAttribute(attributes, traceConfig.getInputAttribute()));
+        dataContent.put("input", input != null ? input : "");
+        dataContent.put("actual_output", attributeToString(resolveAttribute(attributes, traceConfig.getOutputAttribute())));
+        if (StringUtils.hasText(traceConfig.getReferenceAttribute())) {
+            dataContent.put("reference_output", attributeToString(resolveAttribute(attributes, traceConfig.getReferenceAttribute())));
+        }
+        return dataContent;
+    }
+
+    private Integer toInteger(Object value) {
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        if (value instanceof String text && StringUtils.hasText(text)) {
+            try {
+                return Integer.valueOf(text.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 按属性名取值，兼容扁平存储（"gen_ai.input.messages"）和按点号嵌套存储两种形式
+     */
+    @SuppressWarnings("unchecked")
+    private Object resolveAttribute(Map<String, Object> attributes, String name) {
+        if (!StringUtils.hasText(name)) {
+            return null;
+        }
+        if (attributes.containsKey(name)) {
+            return attributes.get(name);
+        }
+        Object current = attributes;
+        for (String part : name.split("\\.")) {
+            if (!(current instanceof Map)) {
+                return null;
+            }
+            current = ((Map<String, Object>) current).get(part);
+        }
+        return current;
+    }
+
+    private String attributeToString(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value instanceof String ? (String) value : JSON.toJSONString(value);
+    }
+
+
+
+    private void promptEvaluation(ExperimentDO experimentDO) throws StudioException {
+        EvaluationObjectConfig evaluationObjectConfig = JSONObject.parseObject(experimentDO.getEvaluationObjectConfig(),EvaluationObjectConfig.class);
+        EvaluationPromptConfig evaluationPromptConfig = JSONObject.parseObject(evaluationObjectConfig.getConfig(),EvaluationPromptConfig.class);
+
+        Long experimentId = experimentDO.getId();
+        boolean batchMode = EXECUTION_MODE_BATCH.equalsIgnoreCase(evaluationPromptConfig.getExecutionMode());
 
+        ExperimentSamplingConfig samplingConfig = parseSamplingConfig(experimentDO.getSamplingConfig());
+        if (batchMode && samplingConfig != null && samplingConfig.getSeed() == null) {
+            // 批处理任务可能在服务重启后恢复，固定随机种子保证恢复时抽取到相同的样本
+            samplingConfig.setSeed(ThreadLocalRandom.current().nextLong());
+            experimentMapper.updateById(ExperimentDO.builder()
+                    .id(experimentId)
+                    .samplingConfig(JSON.toJSONString(samplingConfig))
+                    .build());
+        }
+        List<DatasetItemDO> datasetItems = loadDatasetItems(experimentDO, samplingConfig);
         if (datasetItems.isEmpty()) {
             log.warn("数据集为空，实验完成: {}", experimentId);
             updateExperimentStatus(experimentId, ExperimentStatus.COMPLETED, 100);
@@ -409,59 +1113,415 @@ public class ExperimentServiceImpl implements ExperimentService {
         int totalItems = datasetItems.size();
         AtomicInteger processedItems = new AtomicInteger(0);
 
+        List<EvaluatorConfig> evaluatorConfigs = JSON.parseArray(experimentDO.getEvaluatorConfig(), EvaluatorConfig.class);
+        Map<Long, ScoreStatistics> scoreStatistics = new HashMap<>();
+
         log.info("实验 {} 开始处理 {} 个数据项", experimentId, totalItems);
 
 
         PromptVersionDetail prompt = promptVersionService.getByPromptKeyAndVersion(evaluationPromptConfig.getPromptKey(),evaluationPromptConfig.getVersion());
 
+        if (batchMode) {
+            promptBatchEvaluation(experimentId, datasetItems, prompt, evaluationPromptConfig, evaluatorConfigs, scoreStatistics);
+            return;
+        }
+
+        Function<JSONObject, EvaluationTargetOutput> target = dataContent -> getPromptResult(prompt, dataContent, evaluationPromptConfig);
 
         for (DatasetItemDO datasetItem : datasetItems) {
-            try {
-                // 检查实验是否被停止
+            // 检查实验是否被停止
+            if (isExperimentStopped(experimentId)) {
+                log.info("实验 {} 已被停止", experimentId);
+                return;
+            }
+
+            evaluateItem(experimentId, datasetItem, evaluatorConfigs, null, target, scoreStatistics, false);
+
+            // 更新进度，失败的数据项同样计入进度，失败明细见 experiment_failure
+            int currentProgress = (processedItems.incrementAndGet() * 100) / totalItems;
+            updateExperimentProgress(experimentId, currentProgress);
+
+            log.debug("实验 {} 进度: {}/{} ({}%)", experimentId, processedItems.get(), totalItems, currentProgress);
+
+            // 所有评估器的置信区间都足够窄时提前终止
+            if (reachedTargetConfidence(scoreStatistics, evaluatorConfigs.size(), samplingConfig)) {
+                log.info("实验 {} 置信区间已满足要求，提前终止: {}/{}", experimentId, processedItems.get(), totalItems);
+                break;
+            }
+        }
+
+        // 实验完成
+        log.info("实验 {} 执行完成，共处理 {} 个数据项", experimentId, totalItems);
+        updateExperimentStatus(experimentId, ExperimentStatus.COMPLETED, 100);
+
+    }
+
+
+
+    /**
+     * 获取实验数据集中的数据项，配置了采样时按采样配置抽取样本
+     */
+    private List<DatasetItemDO> loadDatasetItems(ExperimentDO experimentDO, ExperimentSamplingConfig samplingConfig) {
+        DatasetVersionDO datasetVersion = datasetVersionMapper.selectById(experimentDO.getDatasetVersionId());
+
+        List<Long> itemIds = CommonUtils.parseItemIds(datasetVersion.getDatasetItems());
+
+        List<DatasetItemDO> datasetItems = datasetItemMapper.selectByDatasetIdAndItemIds(
+                datasetVersion.getDatasetId(), itemIds);
+
+        // 按采样配置抽取样本，样本顺序随机，便于按置信区间提前终止
+        if (samplingConfig != null && !datasetItems.isEmpty()) {
+            String stratifyColumn = samplingConfig.getStratifyColumn();
+            datasetItems = ExperimentSamplingUtils.sample(datasetItems, samplingConfig,
+                    item -> stratifyColumn == null ? null
+                            : JSONObject.parseObject(item.getDataContent()).getString(stratifyColumn));
+            log.info("实验 {} 采样完成: strategy={}, sampleSize={}", experimentDO.getId(),
+                    samplingConfig.getStrategy(), datasetItems.size());
+        }
+        return datasetItems;
+    }
+
+    /**
+     * HTTP评测对象：并发调用外部Agent服务，每个数据项的响应返回后交给评估线程池执行评估。
+     * 在途数据项数量受 maxConcurrency 限制；评估调用是阻塞的，评估线程数另外固定上限，与非阻塞的HTTP并发数无关，
+     * 超出的响应在线程池队列中等待。并发执行时不做置信区间提前终止
+     */
+    private void httpEvaluation(ExperimentDO experimentDO) throws StudioException {
+        EvaluationObjectConfig evaluationObjectConfig = JSONObject.parseObject(experimentDO.getEvaluationObjectConfig(), EvaluationObjectConfig.class);
+        EvaluationHttpConfig httpConfig = parseHttpConfig(evaluationObjectConfig.getConfig());
+        Long experimentId = experimentDO.getId();
+
+        List<DatasetItemDO> datasetItems = loadDatasetItems(experimentDO, parseSamplingConfig(experimentDO.getSamplingConfig()));
+        if (datasetItems.isEmpty()) {
+            log.warn("数据集为空，实验完成: {}", experimentId);
+            updateExperimentStatus(experimentId, ExperimentStatus.COMPLETED, 100);
+            return;
+        }
+
+        List<EvaluatorConfig> evaluatorConfigs = JSON.parseArray(experimentDO.getEvaluatorConfig(), EvaluatorConfig.class);
+        int totalItems = datasetItems.size();
+        int maxInFlight = httpConfig.getMaxConcurrency();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        AtomicInteger processedItems = new AtomicInteger(0);
+        ExecutorService evaluationExecutor = Executors.newFixedThreadPool(Math.min(maxInFlight, MAX_HTTP_EVALUATION_THREADS));
+
+        log.info("实验 {} 开始调用HTTP评测对象 {}，共 {} 个数据项", experimentId, httpConfig.getUrl(), totalItems);
+        boolean stopped = false;
+        try {
+            for (DatasetItemDO datasetItem : datasetItems) {
                 if (isExperimentStopped(experimentId)) {
                     log.info("实验 {} 已被停止", experimentId);
-                    return;
+                    stopped = true;
+                    break;
+                }
+                inFlight.acquire();
+
+                JSONObject dataContent;
+                try {
+                    dataContent = JSONObject.parseObject(datasetItem.getDataContent());
+                } catch (Exception e) {
+                    log.error("解析数据项失败: experimentId={}, itemId={}", experimentId, datasetItem.getId(), e);
+                    recordFailure(experimentId, datasetItem.getId(), ExperimentFailureDO.TARGET_STAGE_EVALUATOR_ID,
+                            ExperimentFailureDO.STAGE_TARGET, e);
+                    inFlight.release();
+                    continue;
                 }
 
+                httpEvaluationClient.invoke(httpConfig, dataContent).whenCompleteAsync((output, error) -> {
+                    try {
+                        if (error != null) {
+                            Throwable cause = error.getCause() != null ? error.getCause() : error;
+                            log.error("评测对象执行失败: experimentId={}, itemId={}", experimentId, datasetItem.getId(), cause);
+                            recordFailure(experimentId, datasetItem.getId(), ExperimentFailureDO.TARGET_STAGE_EVALUATOR_ID,
+                                    ExperimentFailureDO.STAGE_TARGET,
+                                    cause instanceof Exception exception ? exception : new IllegalStateException(cause));
+                        } else {
+                            evaluateItem(experimentId, datasetItem.getId(), dataContent, evaluatorConfigs, output, null, null, false);
+                        }
+                        updateExperimentProgress(experimentId, processedItems.incrementAndGet() * 100 / totalItems);
+                    } finally {
+                        inFlight.release();
+                    }
+                }, evaluationExecutor);
+            }
+            // 等待在途数据项全部完成
+            inFlight.acquire(maxInFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StudioException(StudioException.SERVER_ERROR, e);
+        } finally {
+            evaluationExecutor.shutdown();
+        }
 
-                JSONObject dataContent = JSONObject.parseObject(datasetItem.getDataContent());
+        if (!stopped) {
+            log.info("实验 {} 执行完成，共处理 {} 个数据项", experimentId, processedItems.get());
+            updateExperimentStatus(experimentId, ExperimentStatus.COMPLETED, 100);
+        }
+    }
 
+    private EvaluationHttpConfig parseHttpConfig(String config) throws StudioException {
+        EvaluationHttpConfig httpConfig = JSONObject.parseObject(config, EvaluationHttpConfig.class);
+        if (httpConfig == null || !StringUtils.hasText(httpConfig.getUrl())) {
+            throw new StudioException(StudioException.INVALID_PARAM, "HTTP evaluation object requires a url");
+        }
+        if (!"POST".equalsIgnoreCase(httpConfig.getMethod()) && !"PUT".equalsIgnoreCase(httpConfig.getMethod())) {
+            throw new StudioException(StudioException.INVALID_PARAM, "HTTP evaluation object only supports POST or PUT");
+        }
+        if (httpConfig.getMaxConcurrency() == null || httpConfig.getMaxConcurrency() < 1) {
+            httpConfig.setMaxConcurrency(1);
+        }
+        if (httpConfig.getTimeoutMs() == null || httpConfig.getTimeoutMs() < 1) {
+            httpConfig.setTimeoutMs(30000);
+        }
+        return httpConfig;
+    }
 
-                String actualOutput = getPromptResult(prompt, dataContent, evaluationPromptConfig);
+    /**
+     * 通过供应商 Batch API 执行评测对象调用：一次性提交全部请求后即返回，由轮询线程按间隔查询任务状态，
+     * 任务结束后再交回实验线程池将结果逐条送入评估流程并更新实验状态，等待期间不占用实验线程。
+     * 批处理模式下所有样本一次提交，不做置信区间提前终止
+     */
+    private void promptBatchEvaluation(Long experimentId, List<DatasetItemDO> datasetItems, PromptVersionDetail prompt,
+                                       EvaluationPromptConfig evaluationPromptConfig, List<EvaluatorConfig> evaluatorConfigs,
+                                       Map<Long, ScoreStatistics> scoreStatistics) throws StudioException {
+        ModelConfigInfo modelConfigInfo = modelConfigParser.parseModelConfig(prompt.getModelConfig());
+        ModelConfigDO modelConfig = findBatchModelConfig(modelConfigInfo);
+        OpenAiBatchClient batchClient = openAiChatClientFactory.buildBatchClient(modelConfig);
+
+        Map<String, Object> parameters = new HashMap<>();
+        if (StringUtils.hasText(modelConfig.getDefaultParameters())) {
+            parameters.putAll(JSONObject.parseObject(modelConfig.getDefaultParameters()));
+        }
+        parameters.putAll(modelConfigParser.extractModelParameters(modelConfigInfo));
 
+        // 渲染全部请求，按数据项ID回填结果
+        Map<String, DatasetItemDO> itemsByCustomId = new LinkedHashMap<>();
+        List<OpenAiBatchClient.BatchRequest> requests = new ArrayList<>(datasetItems.size());
+        for (DatasetItemDO datasetItem : datasetItems) {
+            try {
+                JSONObject dataContent = JSONObject.parseObject(datasetItem.getDataContent());
+                String customId = String.valueOf(datasetItem.getId());
+                requests.add(new OpenAiBatchClient.BatchRequest(customId, buildPromptMessages(prompt, dataContent, evaluationPromptConfig)));
+                itemsByCustomId.put(customId, datasetItem);
+            } catch (Exception e) {
+                log.error("渲染批处理请求失败: experimentId={}, itemId={}", experimentId, datasetItem.getId(), e);
+                recordFailure(experimentId, datasetItem.getId(), ExperimentFailureDO.TARGET_STAGE_EVALUATOR_ID,
+                        ExperimentFailureDO.STAGE_TARGET, e);
+            }
+        }
+        if (requests.isEmpty()) {
+            updateExperimentStatus(experimentId, ExperimentStatus.COMPLETED, 100);
+            return;
+        }
 
-                List<EvaluatorConfig> evaluatorConfigs = JSON.parseArray(experimentDO.getEvaluatorConfig(), EvaluatorConfig.class);
+        String batchId;
+        try {
+            batchId = batchClient.submit(requests, OpenAiChatClientFactory.buildBatchParameters(parameters),
+                    experimentBatchProperties.getCompletionWindow());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StudioException(StudioException.SERVER_ERROR, e);
+        } catch (IOException e) {
+            throw new StudioException(StudioException.BAD_GATEWAY, e);
+        }
+        log.info("实验 {} 已提交批处理任务: batchId={}, requests={}", experimentId, batchId, requests.size());
+        experimentMapper.updateBatchId(experimentId, batchId);
+        scheduleBatchPoll(new BatchJob(experimentId, batchId, batchClient, itemsByCustomId, evaluatorConfigs, scoreStatistics), 0L);
+    }
 
-                evaluatorConfigs.forEach(
-                        evaluatorConfig -> {
-                            EvaluatorDebugResult debugResult= getEvaluatorResult(evaluatorConfig,dataContent,actualOutput);
-                            saveExperimentResult(experimentId, datasetItem.getId(), dataContent.getString("input"), actualOutput, dataContent.getString("reference_output"), debugResult.getScore(), debugResult.getReason(), evaluatorConfig.getEvaluatorVersionId());
-                        }
+    private ModelConfigDO findBatchModelConfig(ModelConfigInfo modelConfigInfo) throws StudioException {
+        ModelConfigDO modelConfig = modelConfigRepository.findById(modelConfigInfo.getModelId());
+        if (modelConfig == null || !BATCH_PROVIDER.equalsIgnoreCase(modelConfig.getProvider())) {
+            throw new StudioException(StudioException.INVALID_PARAM, "Batch execution mode only supports the openai provider");
+        }
+        return modelConfig;
+    }
 
-                );
+    /**
+     * 服务启动后恢复运行中的批处理实验：批处理任务由供应商执行，重启不影响任务本身，
+     * 按数据集版本和采样配置重建数据项映射后继续轮询，已回填的数据项不再重复评估；无法恢复时将实验标记为失败
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeBatchExperiments() {
+        for (ExperimentDO experimentDO : experimentMapper.selectRunningBatchExperiments()) {
+            Long experimentId = experimentDO.getId();
+            try {
+                BatchJob job = rebuildBatchJob(experimentDO);
+                log.info("实验 {} 恢复批处理任务轮询: batchId={}, pendingItems={}", experimentId, job.batchId,
+                        job.itemsByCustomId.size());
+                scheduleBatchPoll(job, 0L);
+            } catch (Exception e) {
+                log.error("恢复批处理任务失败，实验标记为失败: experimentId={}, batchId={}", experimentId,
+                        experimentDO.getBatchId(), e);
+                updateExperimentStatus(experimentId, ExperimentStatus.FAILED, null);
+            }
+        }
+    }
 
+    private BatchJob rebuildBatchJob(ExperimentDO experimentDO) throws StudioException {
+        Long experimentId = experimentDO.getId();
+        EvaluationObjectConfig evaluationObjectConfig = JSONObject.parseObject(experimentDO.getEvaluationObjectConfig(), EvaluationObjectConfig.class);
+        EvaluationPromptConfig evaluationPromptConfig = JSONObject.parseObject(evaluationObjectConfig.getConfig(), EvaluationPromptConfig.class);
+        PromptVersionDetail prompt = promptVersionService.getByPromptKeyAndVersion(evaluationPromptConfig.getPromptKey(), evaluationPromptConfig.getVersion());
+        ModelConfigDO modelConfig = findBatchModelConfig(modelConfigParser.parseModelConfig(prompt.getModelConfig()));
+        OpenAiBatchClient batchClient = openAiChatClientFactory.buildBatchClient(modelConfig);
+
+        // 已保存输出或已记录调用失败的数据项在重启前处理过，不再回填
+        Set<Long> processedItemIds = new HashSet<>(experimentItemMapper.selectDatasetItemIdsByExperimentId(experimentId));
+        for (ExperimentFailureDO failure : experimentFailureMapper.selectByExperimentId(experimentId)) {
+            if (ExperimentFailureDO.TARGET_STAGE_EVALUATOR_ID.equals(failure.getEvaluatorVersionId())) {
+                processedItemIds.add(failure.getDatasetItemId());
+            }
+        }
+        Map<String, DatasetItemDO> itemsByCustomId = new LinkedHashMap<>();
+        for (DatasetItemDO datasetItem : loadDatasetItems(experimentDO, parseSamplingConfig(experimentDO.getSamplingConfig()))) {
+            if (!processedItemIds.contains(datasetItem.getId())) {
+                itemsByCustomId.put(String.valueOf(datasetItem.getId()), datasetItem);
+            }
+        }
+        List<EvaluatorConfig> evaluatorConfigs = JSON.parseArray(experimentDO.getEvaluatorConfig(), EvaluatorConfig.class);
+        return new BatchJob(experimentId, experimentDO.getBatchId(), batchClient, itemsByCustomId, evaluatorConfigs, new HashMap<>());
+    }
 
-                // 更新进度
-                int currentProgress = (processedItems.incrementAndGet() * 100) / totalItems;
-                updateExperimentProgress(experimentId, currentProgress);
+    private void scheduleBatchPoll(BatchJob job, long delayMs) {
+        batchPollScheduler.schedule(() -> pollBatch(job), delayMs, TimeUnit.MILLISECONDS);
+    }
 
-                log.debug("实验 {} 进度: {}/{} ({}%)", experimentId, processedItems.get(), totalItems, currentProgress);
+    /**
+     * 查询一次批处理任务状态，未结束时按间隔再次调度，轮询阶段占前一半进度
+     */
+    private void pollBatch(BatchJob job) {
+        Long experimentId = job.experimentId;
+        try {
+            if (isExperimentStopped(experimentId)) {
+                log.info("实验 {} 已被停止，取消批处理任务: {}", experimentId, job.batchId);
+                experimentMapper.updateBatchId(experimentId, null);
+                job.batchClient.cancel(job.batchId);
+                return;
+            }
+            OpenAiBatchClient.BatchStatus status = job.batchClient.getStatus(job.batchId);
+            if (!status.isTerminal()) {
+                if (status.getTotal() > 0) {
+                    updateExperimentProgress(experimentId, status.getCompleted() * 50 / status.getTotal());
+                }
+                scheduleBatchPoll(job, experimentBatchProperties.getPollIntervalMs());
+                return;
+            }
+            if (!"completed".equals(status.getStatus())) {
+                throw new StudioException(StudioException.BAD_GATEWAY,
+                        "Batch job " + job.batchId + " ended with status " + status.getStatus());
+            }
+            log.info("实验 {} 批处理任务完成: batchId={}, completed={}, failed={}", experimentId, job.batchId,
+                    status.getCompleted(), status.getFailed());
+            experimentExecutor.submit(() -> {
+                try {
+                    ingestBatchResults(job, status);
+                } catch (Exception e) {
+                    log.error("读取批处理结果过程中发生错误: {}", experimentId, e);
+                    updateExperimentStatus(experimentId, ExperimentStatus.FAILED, null);
+                }
+            });
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.error("轮询批处理任务过程中发生错误: experimentId={}, batchId={}", experimentId, job.batchId, e);
+            updateExperimentStatus(experimentId, ExperimentStatus.FAILED, null);
+        }
+    }
 
-            } catch (Exception e) {
-                log.error("处理数据项失败: experimentId={}, itemId={}", experimentId, datasetItem.getId(), e);
-                // 继续处理下一个数据项，不中断整个实验
+    /**
+     * 结果逐行流式读取并进入评估流程，占后一半进度
+     */
+    private void ingestBatchResults(BatchJob job, OpenAiBatchClient.BatchStatus status) throws IOException, InterruptedException {
+        Long experimentId = job.experimentId;
+        Map<String, DatasetItemDO> itemsByCustomId = job.itemsByCustomId;
+        int totalItems = itemsByCustomId.size();
+        Set<String> answered = new HashSet<>();
+        AtomicInteger processedItems = new AtomicInteger(0);
+        boolean[] stopped = {false};
+        Predicate<OpenAiBatchClient.BatchResult> ingest = result -> {
+            DatasetItemDO datasetItem = itemsByCustomId.get(result.getCustomId());
+            if (datasetItem == null || !answered.add(result.getCustomId())) {
+                return true;
+            }
+            if (isExperimentStopped(experimentId)) {
+                stopped[0] = true;
+                return false;
+            }
+            if (result.getError() != null) {
+                recordFailure(experimentId, datasetItem.getId(), ExperimentFailureDO.TARGET_STAGE_EVALUATOR_ID,
+                        ExperimentFailureDO.STAGE_TARGET, new IllegalStateException(result.getError()));
+            } else {
+                EvaluationTargetOutput targetOutput = EvaluationTargetOutput.builder()
+                        .content(result.getContent())
+                        .promptTokens(result.getPromptTokens())
+                        .completionTokens(result.getCompletionTokens())
+                        .build();
+                evaluateItem(experimentId, datasetItem, job.evaluatorConfigs, targetOutput, null, job.scoreStatistics, false);
             }
+            updateExperimentProgress(experimentId, 50 + processedItems.incrementAndGet() * 50 / totalItems);
+            return true;
+        };
+        if (status.getOutputFileId() != null) {
+            job.batchClient.readResults(status.getOutputFileId(), ingest);
+        }
+        if (!stopped[0] && status.getErrorFileId() != null) {
+            job.batchClient.readResults(status.getErrorFileId(), ingest);
+        }
+        if (stopped[0]) {
+            log.info("实验 {} 已被停止", experimentId);
+            return;
         }
 
-        // 实验完成
-        log.info("实验 {} 执行完成，共处理 {} 个数据项", experimentId, totalItems);
+        // 结果文件中缺失的请求记为失败，可通过重跑失败项补齐
+        for (Map.Entry<String, DatasetItemDO> entry : itemsByCustomId.entrySet()) {
+            if (!answered.contains(entry.getKey())) {
+                recordFailure(experimentId, entry.getValue().getId(), ExperimentFailureDO.TARGET_STAGE_EVALUATOR_ID,
+                        ExperimentFailureDO.STAGE_TARGET, new IllegalStateException("No result returned by batch job " + job.batchId));
+            }
+        }
+        log.info("实验 {} 批处理执行完成，共处理 {} 个数据项", experimentId, totalItems);
         updateExperimentStatus(experimentId, ExperimentStatus.COMPLETED, 100);
-
     }
 
+    /**
+     * 已提交的批处理任务及回填结果所需的上下文
+     */
+    @AllArgsConstructor
+    private static class BatchJob {
+
+        private final Long experimentId;
 
+        private final String batchId;
+
+        private final OpenAiBatchClient batchClient;
+
+        private final Map<String, DatasetItemDO> itemsByCustomId;
+
+        private final List<EvaluatorConfig> evaluatorConfigs;
+
+        private final Map<Long, ScoreStatistics> scoreStatistics;
+    }
+
+    /**
+     * 渲染批处理请求消息，与会话调用的消息顺序一致：先数据项输入，再渲染后的Prompt
+     */
+    private List<Map<String, String>> buildPromptMessages(PromptVersionDetail prompt, JSONObject dataContent,
+                                                          EvaluationPromptConfig evaluationPromptConfig) {
+        JSONObject variables = buildPromptVariables(prompt, dataContent, evaluationPromptConfig);
+        String userPrompt = modelConfigParser.replaceVariables(prompt.getTemplate(), variables.toJSONString());
+
+        List<Map<String, String>> messages = new ArrayList<>(2);
+        String input = dataContent.getString("input");
+        if (input != null) {
+            messages.add(Map.of("role", "user", "content", input));
+        }
+        messages.add(Map.of("role", "user", "content", userPrompt));
+        return messages;
+    }
 
-    private  String getPromptResult(PromptVersionDetail prompt,JSONObject dataContent,EvaluationPromptConfig evaluationPromptConfig){
+    private JSONObject buildPromptVariables(PromptVersionDetail prompt, JSONObject dataContent, EvaluationPromptConfig evaluationPromptConfig) {
         //value 是通过  EvaluationPromptConfigVariableMap 确定的。
         JSONObject variables = JSONObject.parseObject(prompt.getVariables());
         // 从 EvaluationPromptConfigVariableMap 中拿到  prompt variables 和datasetvolumsname的映射关系，从datacontent中拿到对应的值，放入variables 中 对应prompt viriable name的key中
@@ -473,6 +1533,11 @@ public class ExperimentServiceImpl implements ExperimentService {
                     variables.put(variableMap.getPromptVariable(), dataContent.getString(variableMap.getDatasetVolumn()));
                 }
         );
+        return variables;
+    }
+
+    private EvaluationTargetOutput getPromptResult(PromptVersionDetail prompt,JSONObject dataContent,EvaluationPromptConfig evaluationPromptConfig){
+        JSONObject variables = buildPromptVariables(prompt, dataContent, evaluationPromptConfig);
 
 
         String userPrompt = modelConfigParser.replaceVariables(prompt.getTemplate(),variables.toJSONString());
@@ -497,11 +1562,28 @@ public class ExperimentServiceImpl implements ExperimentService {
         ChatClient client = chatSessionService.getOrCreateSessionChatClient(session.getSessionId(), observationMetadata);
 
 
-        String response = client.prompt(userPrompt).messages(convertChatMessages(session.getMessages())).call().content();
+        long start = System.currentTimeMillis();
+        ChatClientResponse clientResponse = client.prompt(userPrompt).messages(convertChatMessages(session.getMessages()))
+                .advisors(new TraceIdEnrichAdvisor(observationRegistry))
+                .call()
+                .chatClientResponse();
+        long latencyMs = System.currentTimeMillis() - start;
+
+        ChatResponse chatResponse = clientResponse.chatResponse();
+        String response = chatResponse != null && chatResponse.getResult() != null
+                ? chatResponse.getResult().getOutput().getText() : null;
 
         log.info("getPromptResult,response:{}",response);
 
-        return response;
+        EvaluationTargetOutput.EvaluationTargetOutputBuilder output = EvaluationTargetOutput.builder()
+                .content(response)
+                .latencyMs(latencyMs)
+                .traceId((String) clientResponse.context().get("traceId"));
+        Usage usage = chatResponse != null ? chatResponse.getMetadata().getUsage() : null;
+        if (usage != null) {
+            output.promptTokens(usage.getPromptTokens()).completionTokens(usage.getCompletionTokens());
+        }
+        return output.build();
     }
 
 
@@ -511,6 +1593,12 @@ public class ExperimentServiceImpl implements ExperimentService {
 
         EvaluatorVersionDO evaluatorVersionDO = evaluatorVersionMapper.selectById(evaluatorConfig.getEvaluatorVersionId());
 
+        // 内置评估器直接在进程内计算，不构建模型请求
+        if (EvaluatorVersionDO.EVALUATOR_TYPE_BUILTIN.equals(evaluatorVersionDO.getEvaluatorType())) {
+            return builtinMetricEvaluator.evaluate(evaluatorVersionDO.getMetricConfig(), actualOutput,
+                    resolveReferenceOutput(evaluatorConfig, dataContent, actualOutput));
+        }
+
         JSONObject variables = JSONObject.parseObject(evaluatorVersionDO.getVariables());
 
         evaluatorConfig.getVariableMap().forEach(
@@ -526,41 +1614,248 @@ public class ExperimentServiceImpl implements ExperimentService {
         request.setModelConfig(evaluatorVersionDO.getModelConfig());
         request.setPrompt(evaluatorVersionDO.getPrompt());
         request.setVariables(variables.toJSONString());
+        request.setCascadeConfig(evaluatorVersionDO.getCascadeConfig());
+        request.setConsensusConfig(evaluatorVersionDO.getConsensusConfig());
 
-        EvaluatorDebugResult result = evaluatorServiceImpl.evaluatorTest(request);
+        EvaluatorDebugResult result = evaluatorServiceImpl.evaluateWithCascade(request);
         return result;
     }
 
 
 
     /**
-     * 保存实验结果
+     * 内置评估器的参考输出：变量映射中配置了 reference_output 时按映射取值，否则取数据项的 reference_output 列
+     */
+    private String resolveReferenceOutput(EvaluatorConfig evaluatorConfig, JSONObject dataContent, String actualOutput) {
+        if (evaluatorConfig.getVariableMap() != null) {
+            for (VariableMapItem item : evaluatorConfig.getVariableMap()) {
+                if (BuiltinMetricConfig.REFERENCE_OUTPUT_VARIABLE.equals(item.getEvaluatorVariable())) {
+                    return "actual_output".equals(item.getSource()) ? actualOutput : dataContent.getString(item.getSource());
+                }
+            }
+        }
+        return dataContent.getString("reference_output");
+    }
+
+    /**
+     * 解析采样配置，未配置时返回null
+     */
+    private ExperimentSamplingConfig parseSamplingConfig(String samplingConfig) {
+        if (!StringUtils.hasText(samplingConfig)) {
+            return null;
+        }
+        return JSONObject.parseObject(samplingConfig, ExperimentSamplingConfig.class);
+    }
+
+    private void validateSamplingConfig(ExperimentSamplingConfig config) {
+        if (!ExperimentSamplingConfig.STRATEGY_RANDOM.equalsIgnoreCase(config.getStrategy())
+                && !ExperimentSamplingConfig.STRATEGY_STRATIFIED.equalsIgnoreCase(config.getStrategy())) {
+            throw new IllegalArgumentException("Unsupported sampling strategy: " + config.getStrategy());
+        }
+        if (ExperimentSamplingConfig.STRATEGY_STRATIFIED.equalsIgnoreCase(config.getStrategy())
+                && !StringUtils.hasText(config.getStratifyColumn())) {
+            throw new IllegalArgumentException("Stratify column is required for stratified sampling");
+        }
+        if (config.getSampleRatio() != null && (config.getSampleRatio() <= 0 || config.getSampleRatio() > 1)) {
+            throw new IllegalArgumentException("Sample ratio must be in (0, 1]");
+        }
+        if (config.getConfidenceLevel() != null && (config.getConfidenceLevel() <= 0 || config.getConfidenceLevel() >= 1)) {
+            throw new IllegalArgumentException("Confidence level must be in (0, 1)");
+        }
+    }
+
+    /**
+     * 判断是否所有评估器的平均分置信区间宽度都已不大于目标宽度
+     */
+    private boolean reachedTargetConfidence(Map<Long, ScoreStatistics> scoreStatistics, int evaluatorCount,
+                                            ExperimentSamplingConfig samplingConfig) {
+        if (samplingConfig == null || samplingConfig.getConfidenceWidth() == null
+                || scoreStatistics.size() < evaluatorCount) {
+            return false;
+        }
+        int minSamples = samplingConfig.getMinSamples() != null ? samplingConfig.getMinSamples() : 30;
+        double confidenceLevel = samplingConfig.getConfidenceLevel() != null ? samplingConfig.getConfidenceLevel() : 0.95;
+        for (ScoreStatistics statistics : scoreStatistics.values()) {
+            if (statistics.getCount() < minSamples
+                    || 2 * statistics.getHalfWidth(confidenceLevel) > samplingConfig.getConfidenceWidth()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 保存评测对象输出，每个数据项只保存一份，供各评估器的结果引用；输入、输出列不允许为空，缺失时写入空字符串。
+     * 不来自数据集的评估项无法回查数据内容，一并保存完整的数据内容
+     *
+     * @return 实验数据项ID
+     */
+    private Long saveExperimentItem(Long experimentId, Long datasetItemId, JSONObject dataContent,
+                                    EvaluationTargetOutput actualOutput) {
+        String input = dataContent.getString("input");
+        ExperimentItemDO itemDO = ExperimentItemDO.builder()
+                .experimentId(experimentId)
+                .datasetItemId(datasetItemId)
+                .input(input != null ? input : "")
+                .actualOutput(actualOutput.getContent() != null ? actualOutput.getContent() : "")
+                .referenceOutput(dataContent.getString("reference_output"))
+                .targetLatencyMs(actualOutput.getLatencyMs())
+                .promptTokens(actualOutput.getPromptTokens())
+                .completionTokens(actualOutput.getCompletionTokens())
+                .traceId(actualOutput.getTraceId())
+                .dataContent(datasetItemId == null ? dataContent.toJSONString() : null)
+                .build();
+        experimentItemMapper.insert(itemDO);
+        return itemDO.getId();
+    }
+
+    private EvaluationTargetOutput toTargetOutput(ExperimentItemDO experimentItem) {
+        return EvaluationTargetOutput.builder()
+                .content(experimentItem.getActualOutput())
+                .latencyMs(experimentItem.getTargetLatencyMs())
+                .promptTokens(experimentItem.getPromptTokens())
+                .completionTokens(experimentItem.getCompletionTokens())
+                .traceId(experimentItem.getTraceId())
+                .experimentItemId(experimentItem.getId())
+                .build();
+    }
+
+    /**
+     * 保存实验结果，结果行只包含评估结论，通过 experimentItemId 引用评测对象输出
+     */
+    private void saveExperimentResult(Long experimentId, Long experimentItemId, Long datasetItemId,
+                                      EvaluatorDebugResult debugResult, Long evaluatorVersionId) {
+        ExperimentResultDO resultDO = ExperimentResultDO.builder()
+                .experimentId(experimentId)
+                .experimentItemId(experimentItemId)
+                .datasetItemId(datasetItemId)
+                .score(new BigDecimal(debugResult.getScore()))
+                .reason(debugResult.getReason())
+                .evaluatorVersionId(evaluatorVersionId)
+                .judgeLatencyMs(debugResult.getLatencyMs())
+                .judgeTokens(debugResult.getTotalTokens())
+                .judgeSamples(debugResult.getSampleCount())
+                .scoreVariance(debugResult.getScoreVariance())
+                .evaluationTime(LocalDateTime.now())
+                .createTime(LocalDateTime.now())
+                .updateTime(LocalDateTime.now())
+                .build();
+
+        // 使用批量插入方法，将单个结果包装成列表；失败时抛出，由调用方记录到失败表
+        List<ExperimentResultDO> results = new ArrayList<>();
+        results.add(resultDO);
+        experimentResultMapper.batchInsert(results);
+        log.debug("保存实验结果成功: experimentId={}, itemId={}", experimentId, datasetItemId);
+    }
+
+    /**
+     * 评估单个数据项：先执行评测对象，再依次执行各评估器。每个阶段的失败单独记录到失败表，互不影响
+     *
+     * @param actualOutput 已有的评测对象输出，不为空时跳过评测对象阶段
+     * @param scoreStatistics 评分统计，可为空
+     * @param rerun 是否为重跑，重跑成功时清理对应的失败记录
+     * @return 全部阶段是否成功
+     */
+    private boolean evaluateItem(Long experimentId, DatasetItemDO datasetItem, List<EvaluatorConfig> evaluatorConfigs,
+                                 EvaluationTargetOutput actualOutput, Function<JSONObject, EvaluationTargetOutput> target,
+                                 Map<Long, ScoreStatistics> scoreStatistics, boolean rerun) {
+        JSONObject dataContent;
+        try {
+            dataContent = JSONObject.parseObject(datasetItem.getDataContent());
+        } catch (Exception e) {
+            log.error("解析数据项失败: experimentId={}, itemId={}", experimentId, datasetItem.getId(), e);
+            recordFailure(experimentId, datasetItem.getId(), ExperimentFailureDO.TARGET_STAGE_EVALUATOR_ID,
+                    ExperimentFailureDO.STAGE_TARGET, e);
+            return false;
+        }
+        return evaluateItem(experimentId, datasetItem.getId(), dataContent, evaluatorConfigs, actualOutput, target,
+                scoreStatistics, rerun);
+    }
+
+    /**
+     * itemId 为空表示评估项不来自数据集（如Trace回放），此时结果不关联数据项，
+     * 失败记录使用数据项ID 0，并以 traceId:spanId（未保存数据内容的历史数据项追加评估器时为实验数据项ID）区分不同评估项
+     */
+    private boolean evaluateItem(Long experimentId, Long itemId, JSONObject dataContent, List<EvaluatorConfig> evaluatorConfigs,
+                                 EvaluationTargetOutput actualOutput, Function<JSONObject, EvaluationTargetOutput> target,
+                                 Map<Long, ScoreStatistics> scoreStatistics, boolean rerun) {
+        Long failureItemId = itemId != null ? itemId : ExperimentFailureDO.NON_DATASET_ITEM_ID;
+        String failureSourceKey = itemId != null ? "" : nonDatasetSourceKey(dataContent, actualOutput);
+        EvaluationTargetOutput output = actualOutput;
+        try {
+            if (output == null) {
+                output = target.apply(dataContent);
+                if (rerun) {
+                    experimentFailureMapper.delete(experimentId, failureItemId, ExperimentFailureDO.TARGET_STAGE_EVALUATOR_ID);
+                }
+            }
+            if (output.getExperimentItemId() == null) {
+                output.setExperimentItemId(saveExperimentItem(experimentId, itemId, dataContent, output));
+            }
+        } catch (Exception e) {
+            log.error("评测对象执行失败: experimentId={}, itemId={}", experimentId, itemId, e);
+            recordFailure(experimentId, failureItemId, failureSourceKey, ExperimentFailureDO.TARGET_STAGE_EVALUATOR_ID,
+                    ExperimentFailureDO.STAGE_TARGET, e);
+            return false;
+        }
+
+        boolean success = true;
+        for (EvaluatorConfig evaluatorConfig : evaluatorConfigs) {
+            Long evaluatorVersionId = evaluatorConfig.getEvaluatorVersionId();
+            try {
+                EvaluatorDebugResult debugResult = getEvaluatorResult(evaluatorConfig, dataContent, output.getContent());
+                saveExperimentResult(experimentId, output.getExperimentItemId(), itemId, debugResult, evaluatorVersionId);
+                if (rerun) {
+                    experimentFailureMapper.delete(experimentId, failureItemId, evaluatorVersionId);
+                }
+                if (scoreStatistics != null && StringUtils.hasText(debugResult.getScore())) {
+                    scoreStatistics.computeIfAbsent(evaluatorVersionId, k -> new ScoreStatistics())
+                            .add(Double.parseDouble(debugResult.getScore()));
+                }
+            } catch (Exception e) {
+                log.error("评估器执行失败: experimentId={}, itemId={}, evaluatorVersionId={}",
+                        experimentId, itemId, evaluatorVersionId, e);
+                recordFailure(experimentId, failureItemId, failureSourceKey, evaluatorVersionId,
+                        ExperimentFailureDO.STAGE_EVALUATOR, e);
+                success = false;
+            }
+        }
+        return success;
+    }
+
+    private String nonDatasetSourceKey(JSONObject dataContent, EvaluationTargetOutput actualOutput) {
+        if (dataContent.containsKey("span_id")) {
+            return dataContent.getString("trace_id") + ":" + dataContent.getString("span_id");
+        }
+        return actualOutput != null && actualOutput.getExperimentItemId() != null
+                ? "item:" + actualOutput.getExperimentItemId() : "";
+    }
+
+    /**
+     * 记录失败项，重复失败时累加尝试次数
      */
-    private void saveExperimentResult(Long experimentId, Long datasetItemId,
-                                      String input, String actualOutput, String referenceOutput,
-                                      String score, String reason, Long evaluatorVersionId) {
+    private void recordFailure(Long experimentId, Long datasetItemId, Long evaluatorVersionId, String stage, Exception e) {
+        recordFailure(experimentId, datasetItemId, "", evaluatorVersionId, stage, e);
+    }
+
+    private void recordFailure(Long experimentId, Long datasetItemId, String sourceKey, Long evaluatorVersionId,
+                               String stage, Exception e) {
         try {
-            ExperimentResultDO resultDO = ExperimentResultDO.builder()
+            String message = e.getMessage();
+            if (message != null && message.length() > MAX_ERROR_MESSAGE_LENGTH) {
+                message = message.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+            }
+            experimentFailureMapper.upsert(ExperimentFailureDO.builder()
                     .experimentId(experimentId)
-                    .input(input)
-                    .actualOutput(actualOutput)
-                    .referenceOutput(referenceOutput)
-                    .score(new BigDecimal(score))
-                    .reason(reason)
+                    .datasetItemId(datasetItemId)
+                    .sourceKey(sourceKey)
                     .evaluatorVersionId(evaluatorVersionId)
-                    .evaluationTime(LocalDateTime.now())
-                    .createTime(LocalDateTime.now())
-                    .updateTime(LocalDateTime.now())
-                    .build();
-            
-            // 使用批量插入方法，将单个结果包装成列表
-            List<ExperimentResultDO> results = new ArrayList<>();
-            results.add(resultDO);
-            experimentResultMapper.batchInsert(results);
-            log.debug("保存实验结果成功: experimentId={}, itemId={}", experimentId, datasetItemId);
-            
-        } catch (Exception e) {
-            log.error("保存实验结果失败: experimentId={}, itemId={}", experimentId, datasetItemId, e);
+                    .stage(stage)
+                    .errorClass(e.getClass().getName())
+                    .errorMessage(message)
+                    .build());
+        } catch (Exception ex) {
+            log.error("记录实验失败项失败: experimentId={}, itemId={}", experimentId, datasetItemId, ex);
         }
     }
 
@@ -612,12 +1907,95 @@ public class ExperimentServiceImpl implements ExperimentService {
             
             experimentMapper.updateById(experimentDO);
             log.info("实验状态更新成功: experimentId={}, status={}", experimentId, status);
+
+            if (status == ExperimentStatus.COMPLETED || status == ExperimentStatus.FAILED
+                    || status == ExperimentStatus.STOPPED) {
+                // 实验结束后不再恢复批处理任务轮询
+                experimentMapper.updateBatchId(experimentId, null);
+                refreshSummary(experimentId);
+            }
             
         } catch (Exception e) {
             log.error("更新实验状态失败: {}", experimentId, e);
         }
     }
 
+    @Override
+    public List<ExperimentScoreDistribution> getScoreDistribution(ExperimentScoreDistributionRequest request) {
+        ExperimentDO experimentDO = experimentMapper.selectById(request.getExperimentId());
+        if (experimentDO == null) {
+            throw new IllegalArgumentException("Experiment not found: " + request.getExperimentId());
+        }
+
+        // 已结束的实验读取物化的直方图，运行中或汇总缺失时按得分分组实时聚合
+        Map<Long, ScoreHistogram> histograms = new LinkedHashMap<>();
+        String source = "summary";
+        if (!ExperimentStatus.RUNNING.getCode().equals(experimentDO.getStatus())) {
+            for (ExperimentSummaryDO summaryDO : experimentSummaryMapper.selectByExperimentIds(List.of(experimentDO.getId()))) {
+                if (summaryDO.getScoreHistogram() == null) {
+                    histograms.clear();
+                    break;
+                }
+                if (request.getEvaluatorVersionId() == null
+                        || request.getEvaluatorVersionId().equals(summaryDO.getEvaluatorVersionId())) {
+                    histograms.put(summaryDO.getEvaluatorVersionId(), ScoreHistogram.fromJson(summaryDO.getScoreHistogram()));
+                }
+            }
+        }
+        if (histograms.isEmpty()) {
+            source = "scan";
+            for (ExperimentScoreCountDO scoreCount : experimentResultMapper.selectScoreCounts(
+                    experimentDO.getId(), request.getEvaluatorVersionId())) {
+                histograms.computeIfAbsent(scoreCount.getEvaluatorVersionId(), k -> new ScoreHistogram())
+                        .add(scoreCount.getScore(), scoreCount.getResultCount());
+            }
+        }
+
+        List<ExperimentScoreDistribution> distributions = new ArrayList<>();
+        for (Map.Entry<Long, ScoreHistogram> entry : histograms.entrySet()) {
+            distributions.add(toScoreDistribution(entry.getKey(), entry.getValue(), request, source));
+        }
+        return distributions;
+    }
+
+    private ExperimentScoreDistribution toScoreDistribution(Long evaluatorVersionId, ScoreHistogram histogram,
+                                                            ExperimentScoreDistributionRequest request, String source) {
+        int binCount = request.getBins();
+        long[] bins = histogram.bins(binCount);
+        List<ExperimentScoreDistribution.Bin> histogramBins = new ArrayList<>(binCount);
+        for (int i = 0; i < binCount; i++) {
+            histogramBins.add(new ExperimentScoreDistribution.Bin(
+                    BigDecimal.valueOf(i).divide(BigDecimal.valueOf(binCount), 4, RoundingMode.HALF_UP),
+                    BigDecimal.valueOf(i + 1).divide(BigDecimal.valueOf(binCount), 4, RoundingMode.HALF_UP),
+                    bins[i]));
+        }
+        return ExperimentScoreDistribution.builder()
+                .evaluatorVersionId(evaluatorVersionId)
+                .resultCount(histogram.getTotal())
+                .averageScore(histogram.getTotal() > 0
+                        ? BigDecimal.valueOf(histogram.getMean()).setScale(4, RoundingMode.HALF_UP) : null)
+                .p10(histogram.quantile(0.1))
+                .p50(histogram.quantile(0.5))
+                .p90(histogram.quantile(0.9))
+                .passThreshold(request.getPassThreshold())
+                .passRate(histogram.passRate(request.getPassThreshold()))
+                .histogram(histogramBins)
+                .source(source)
+                .build();
+    }
+
+    /**
+     * 刷新实验汇总，失败不影响实验状态
+     */
+    private void refreshSummary(Long experimentId) {
+        try {
+            experimentSummaryMapper.refreshByExperimentId(experimentId, ExperimentSummaryDO.PASS_SCORE_THRESHOLD);
+            experimentSummaryMapper.refreshHistogramByExperimentId(experimentId);
+        } catch (Exception e) {
+            log.error("刷新实验汇总失败: {}", experimentId, e);
+        }
+    }
+
     @Override
     public PageResult<Experiment> getExperimentsByEvaluator(EvaluatorExperimentsListRequest request) {
         log.info("查询评估器关联的实验: {}", request);
@@ -635,18 +2013,8 @@ public class ExperimentServiceImpl implements ExperimentService {
             totalCount = experimentMapper.selectCountByEvaluatorId(request.getEvaluatorId());
 
             
-            // 转换为DTO并获取数据集版本信息
-            List<Experiment> experiments = experimentDOList.stream()
-                    .map(experimentDO -> {
-                        try {
-                            return Experiment.fromDO(experimentDO);
-                        } catch (Exception e) {
-                            log.warn("获取数据集版本信息失败: experimentId={}, datasetVersionId={}", 
-                                experimentDO.getId(), experimentDO.getDatasetVersionId(), e);
-                            return Experiment.fromDO(experimentDO);
-                        }
-                    })
-                    .toList();
+            // 转换为DTO并批量附带汇总统计
+            List<Experiment> experiments = toExperimentsWithSummaries(experimentDOList);
             
             return new PageResult<>(
                     (long) totalCount,
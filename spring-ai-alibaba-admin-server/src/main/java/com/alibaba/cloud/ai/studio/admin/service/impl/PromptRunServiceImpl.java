@@ -10,6 +10,7 @@ import com.alibaba.cloud.ai.studio.admin.service.ChatSessionService;
 import com.alibaba.cloud.ai.studio.admin.service.PromptRunService;
 import com.alibaba.cloud.ai.studio.admin.service.advisors.TraceIdEnrichAdvisor;
 import com.alibaba.cloud.ai.studio.admin.service.client.ChatClientFactoryDelegate;
+import com.alibaba.cloud.ai.studio.admin.service.session.ChatHistoryWindow;
 import com.alibaba.cloud.ai.studio.admin.utils.ModelConfigParser;
 import com.alibaba.cloud.ai.studio.admin.utils.SessionUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -35,6 +36,8 @@ import org.springframework.ai.tool.function.FunctionToolCallback;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -59,17 +62,20 @@ public class PromptRunServiceImpl implements PromptRunService {
     
     private final ObservationRegistry observationRegistry;
     
+    private final ChatHistoryWindow chatHistoryWindow;
+    
     @Override
     public Flux<PromptRunResponse> run(PromptRunRequest request) {
         log.info("运行带会话的Prompt调试: {}", request);
         
         try {
+            chatHistoryWindow.validate(request.getHistoryPolicy());
+            
             // 1. 获取或创建会话
             ChatSession session = getOrCreateSession(request);
             
             // 2. 添加用户消息到会话
             session.addUserMessage(request.getMessage());
-            chatSessionService.updateSession(session);
             if (StringUtils.hasText(request.getPromptKey())) {
                 session.setPromptKey(request.getPromptKey());
             }
@@ -81,6 +87,10 @@ public class PromptRunServiceImpl implements PromptRunService {
             session.setVariables(request.getVariables());
             session.setMockTools(request.getMockTools());
             session.setModelConfig(modelConfigParser.checkAndGetModelConfigInfo(request.getModelConfig()));
+            if (request.getHistoryPolicy() != null) {
+                session.setHistoryPolicy(request.getHistoryPolicy());
+            }
+            chatSessionService.updateSession(session);
             
             // 3. 返回会话信息
             PromptRunResponse sessionInfo = PromptRunResponse.createSessionInfoResponse(session);
@@ -167,11 +177,10 @@ public class PromptRunServiceImpl implements PromptRunService {
         
         List<ToolCallback> functionToolCallbacks = buildMockToolBacks(request.getMockTools());
         
-        List<Message> messages = new ArrayList<>();
-        messages.add(new SystemMessage(fullPrompt));
-        messages.addAll(SessionUtils.convertChatMessages(session.getMessages()));
-        Prompt prompt = new Prompt(messages);
-        return client.prompt(prompt).toolCallbacks(functionToolCallbacks).stream().chatClientResponse()
+        // summarize 策略可能同步调用模型生成摘要，放到弹性线程池执行
+        return Mono.fromCallable(() -> buildPrompt(session, fullPrompt)).subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(prompt -> client.prompt(prompt).toolCallbacks(functionToolCallbacks).stream()
+                        .chatClientResponse())
                 .map(response -> {
                     // 收集完整响应
                     ChatResponse chatResponse = response.chatResponse();
@@ -205,6 +214,19 @@ public class PromptRunServiceImpl implements PromptRunService {
                 });
     }
     
+    /**
+     * 按会话的历史策略截取历史消息，较早轮次的摘要附在系统提示之后
+     */
+    private Prompt buildPrompt(ChatSession session, String systemPrompt) {
+        ChatHistoryWindow.Window window = chatHistoryWindow.apply(session);
+        String systemText = StringUtils.hasText(window.getSummary())
+                ? systemPrompt + "\n\n以下是此前对话的摘要：\n" + window.getSummary() : systemPrompt;
+        List<Message> messages = new ArrayList<>();
+        messages.add(new SystemMessage(systemText));
+        messages.addAll(SessionUtils.convertChatMessages(window.getMessages()));
+        return new Prompt(messages);
+    }
+    
     public List<ToolCallback> buildMockToolBacks(List<MockTool> mockTools) {
         List<ToolCallback> mockToolCallbacks = new ArrayList<>();
         if (mockTools == null) {
@@ -0,0 +1,103 @@
+package com.alibaba.cloud.ai.studio.admin.service.session;
+
+import com.alibaba.cloud.ai.studio.admin.config.ChatSessionProperties;
+import com.alibaba.cloud.ai.studio.admin.dto.ChatMessage;
+import com.alibaba.cloud.ai.studio.admin.dto.ChatSession;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 堆内会话存储：按权重限定总大小，空闲超时淘汰（W-TinyLFU）
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "studio.session", name = "store", havingValue = "memory", matchIfMissing = true)
+public class CaffeineChatSessionStore implements ChatSessionStore {
+
+    private final Cache<String, ChatSession> sessions;
+
+    private final List<Consumer<String>> removalListeners = new CopyOnWriteArrayList<>();
+
+    public CaffeineChatSessionStore(ChatSessionProperties sessionProperties, MeterRegistry meterRegistry) {
+        int baseWeight = sessionProperties.getSessionBaseWeight();
+        this.sessions = Caffeine.newBuilder()
+                .maximumWeight(sessionProperties.getMaximumWeight())
+                .weigher((String sessionId, ChatSession session) -> weigh(session, baseWeight))
+                .expireAfterAccess(sessionProperties.getExpireAfterAccess())
+                .scheduler(Scheduler.systemScheduler())
+                .removalListener(this::onRemoved)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, sessions, "chat.sessions");
+    }
+
+    @Override
+    public ChatSession get(String sessionId) {
+        return sessions.getIfPresent(sessionId);
+    }
+
+    @Override
+    public boolean contains(String sessionId) {
+        return sessions.asMap().containsKey(sessionId);
+    }
+
+    @Override
+    public void put(ChatSession session) {
+        // 重新放入以按当前消息量更新权重
+        sessions.put(session.getSessionId(), session);
+    }
+
+    @Override
+    public void remove(String sessionId) {
+        sessions.invalidate(sessionId);
+    }
+
+    @Override
+    public void cleanUp() {
+        sessions.cleanUp();
+        log.debug("会话缓存: size={}, stats={}", sessions.estimatedSize(), sessions.stats());
+    }
+
+    @Override
+    public void addRemovalListener(Consumer<String> listener) {
+        removalListeners.add(listener);
+    }
+
+    private void onRemoved(String sessionId, ChatSession session, RemovalCause cause) {
+        if (sessionId == null || cause == RemovalCause.REPLACED) {
+            return;
+        }
+        if (cause.wasEvicted()) {
+            log.debug("会话被淘汰: {}, cause={}", sessionId, cause);
+        }
+        removalListeners.forEach(listener -> listener.accept(sessionId));
+    }
+
+    /**
+     * 估算会话权重：基础权重加模板、变量和消息内容的字符数
+     */
+    private static int weigh(ChatSession session, int baseWeight) {
+        long weight = baseWeight + length(session.getTemplate()) + length(session.getVariables());
+        if (session.getMessages() != null) {
+            for (ChatMessage message : session.getMessages()) {
+                weight += length(message.getContent());
+            }
+        }
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
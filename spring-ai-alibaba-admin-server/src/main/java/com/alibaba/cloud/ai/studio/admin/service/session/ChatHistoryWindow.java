@@ -0,0 +1,219 @@
+package com.alibaba.cloud.ai.studio.admin.service.session;
+
+import com.alibaba.cloud.ai.studio.admin.config.ChatSessionProperties;
+import com.alibaba.cloud.ai.studio.admin.dto.ChatHistoryPolicy;
+import com.alibaba.cloud.ai.studio.admin.dto.ChatMessage;
+import com.alibaba.cloud.ai.studio.admin.dto.ChatSession;
+import com.alibaba.cloud.ai.studio.admin.service.client.ChatClientFactoryDelegate;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.tokenizer.JTokkitTokenCountEstimator;
+import org.springframework.ai.tokenizer.TokenCountEstimator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 按会话的历史策略截取每轮发送给模型的历史消息，并记录截取前后的token数。
+ * <p>
+ * token数用本地 JTokkit（cl100k_base）估算，对非 OpenAI 模型只是近似值，但足以用于预算截取和节省量统计
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatHistoryWindow {
+
+    private static final String SUMMARY_SYSTEM_PROMPT = "你负责压缩对话历史。请将给出的对话内容（以及已有摘要）合并为一段简洁的摘要，"
+            + "保留关键事实、用户的意图和约束、已经给出的结论，不要添加对话中没有的信息，直接输出摘要正文。";
+
+    private static final Map<String, String> SUMMARY_OBSERVATION_METADATA = Map.of("studioSource", "history-summary");
+
+    private final ChatClientFactoryDelegate chatClientFactoryDelegate;
+
+    private final ChatSessionProperties sessionProperties;
+
+    private final MeterRegistry meterRegistry;
+
+    private final TokenCountEstimator tokenCountEstimator = new JTokkitTokenCountEstimator();
+
+    /**
+     * 截取结果：本轮发送的消息和（summarize 策略下的）较早轮次摘要
+     */
+    @Data
+    @AllArgsConstructor
+    public static class Window {
+
+        private List<ChatMessage> messages;
+
+        private String summary;
+    }
+
+    /**
+     * 校验请求中的策略
+     */
+    public void validate(ChatHistoryPolicy policy) {
+        if (policy == null) {
+            return;
+        }
+        if (policy.getType() != null && !ChatHistoryPolicy.TYPES.contains(policy.getType())) {
+            throw new IllegalArgumentException("Unsupported history policy: " + policy.getType());
+        }
+        if (isNonPositive(policy.getLastTurns()) || isNonPositive(policy.getTokenBudget())
+                || isNonPositive(policy.getKeepTurns())) {
+            throw new IllegalArgumentException("History policy limits must be positive");
+        }
+    }
+
+    /**
+     * 按会话策略截取历史。summarize 策略在待合并的轮次足够多时会同步调用模型更新会话中的摘要，
+     * 调用方需在非事件循环线程执行，并在之后保存会话
+     *
+     * @param session 会话，最后一条消息为本轮提问
+     * @return 截取结果
+     */
+    public Window apply(ChatSession session) {
+        ChatHistoryPolicy policy = resolve(session.getHistoryPolicy());
+        List<ChatMessage> messages = session.getMessages();
+        Window window = switch (policy.getType()) {
+            case ChatHistoryPolicy.LAST_N ->
+                    new Window(new ArrayList<>(messages.subList(turnStart(messages, policy.getLastTurns()), messages.size())), null);
+            case ChatHistoryPolicy.TOKEN_BUDGET -> new Window(withinBudget(messages, policy.getTokenBudget()), null);
+            case ChatHistoryPolicy.SUMMARIZE -> summarize(session, policy.getKeepTurns());
+            default -> new Window(messages, null);
+        };
+        if (!ChatHistoryPolicy.ALL.equals(policy.getType())) {
+            recordTokens(policy.getType(), messages, window);
+        }
+        return window;
+    }
+
+    private ChatHistoryPolicy resolve(ChatHistoryPolicy policy) {
+        ChatSessionProperties.History defaults = sessionProperties.getHistory();
+        ChatHistoryPolicy resolved = ChatHistoryPolicy.builder().type(defaults.getPolicy())
+                .lastTurns(defaults.getLastTurns()).tokenBudget(defaults.getTokenBudget())
+                .keepTurns(defaults.getKeepTurns()).build();
+        if (policy != null) {
+            if (policy.getType() != null) {
+                resolved.setType(policy.getType());
+            }
+            if (policy.getLastTurns() != null) {
+                resolved.setLastTurns(policy.getLastTurns());
+            }
+            if (policy.getTokenBudget() != null) {
+                resolved.setTokenBudget(policy.getTokenBudget());
+            }
+            if (policy.getKeepTurns() != null) {
+                resolved.setKeepTurns(policy.getKeepTurns());
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * 最近 turns 轮的起始下标，每条用户消息开启一轮
+     */
+    private static int turnStart(List<ChatMessage> messages, int turns) {
+        int count = 0;
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            if ("user".equals(messages.get(i).getRole()) && ++count == turns) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 从最近一轮往前按整轮加入，直到超出预算；本轮提问所在的一轮始终保留
+     */
+    private List<ChatMessage> withinBudget(List<ChatMessage> messages, int tokenBudget) {
+        int start = messages.size();
+        long total = 0;
+        long turnTokens = 0;
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            ChatMessage message = messages.get(i);
+            turnTokens += countTokens(message.getContent());
+            if (!"user".equals(message.getRole())) {
+                continue;
+            }
+            if (start < messages.size() && total + turnTokens > tokenBudget) {
+                break;
+            }
+            total += turnTokens;
+            turnTokens = 0;
+            start = i;
+        }
+        return new ArrayList<>(messages.subList(start, messages.size()));
+    }
+
+    /**
+     * 保留最近 keepTurns 轮原文，更早且尚未合并的轮次累计到与保留窗口同样多时再合并进摘要，避免每轮都调用模型
+     */
+    private Window summarize(ChatSession session, int keepTurns) {
+        List<ChatMessage> messages = session.getMessages();
+        int summarized = session.getSummarizedMessageCount() != null
+                ? Math.min(session.getSummarizedMessageCount(), messages.size()) : 0;
+        int keepStart = Math.max(turnStart(messages, keepTurns), summarized);
+        if (keepStart > summarized && keepStart - summarized >= messages.size() - keepStart) {
+            try {
+                String summary = callSummary(session, messages.subList(summarized, keepStart));
+                session.setHistorySummary(summary);
+                session.setSummarizedMessageCount(keepStart);
+                summarized = keepStart;
+                log.info("会话 {} 历史已合并进摘要，累计 {} 条消息", session.getSessionId(), keepStart);
+            } catch (Exception e) {
+                log.warn("会话 {} 历史摘要失败，本轮发送未合并的历史", session.getSessionId(), e);
+            }
+        }
+        return new Window(new ArrayList<>(messages.subList(summarized, messages.size())), session.getHistorySummary());
+    }
+
+    private String callSummary(ChatSession session, List<ChatMessage> messages) {
+        StringBuilder content = new StringBuilder();
+        if (StringUtils.hasText(session.getHistorySummary())) {
+            content.append("已有摘要：\n").append(session.getHistorySummary()).append("\n\n");
+        }
+        content.append("对话内容：\n");
+        for (ChatMessage message : messages) {
+            content.append("user".equals(message.getRole()) ? "用户: " : "助手: ").append(message.getContent()).append('\n');
+        }
+        ChatClient client = chatClientFactoryDelegate.getSharedChatClient(session.getModelConfig().getModelId(),
+                session.getModelConfig().getParameters(), SUMMARY_OBSERVATION_METADATA);
+        String summary = client.prompt().system(SUMMARY_SYSTEM_PROMPT).user(content.toString()).call().content();
+        if (!StringUtils.hasText(summary)) {
+            throw new IllegalStateException("Empty summary returned by model");
+        }
+        return summary.trim();
+    }
+
+    private void recordTokens(String policy, List<ChatMessage> messages, Window window) {
+        long original = countTokens(messages);
+        long sent = countTokens(window.getMessages()) + countTokens(window.getSummary());
+        meterRegistry.summary("studio.prompt.history.tokens.sent", "policy", policy).record(sent);
+        meterRegistry.summary("studio.prompt.history.tokens.saved", "policy", policy).record(Math.max(0, original - sent));
+        log.debug("历史截取: policy={}, messages={} -> {}, tokens={} -> {}", policy, messages.size(),
+                window.getMessages().size(), original, sent);
+    }
+
+    private long countTokens(List<ChatMessage> messages) {
+        long tokens = 0;
+        for (ChatMessage message : messages) {
+            tokens += countTokens(message.getContent());
+        }
+        return tokens;
+    }
+
+    private int countTokens(String text) {
+        return StringUtils.hasText(text) ? tokenCountEstimator.estimate(text) : 0;
+    }
+
+    private static boolean isNonPositive(Integer value) {
+        return value != null && value <= 0;
+    }
+}
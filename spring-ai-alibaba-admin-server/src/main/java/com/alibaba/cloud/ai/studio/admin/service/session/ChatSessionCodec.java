@@ -0,0 +1,327 @@
+package com.alibaba.cloud.ai.studio.admin.service.session;
+
+import com.alibaba.cloud.ai.studio.admin.dto.ChatHistoryPolicy;
+import com.alibaba.cloud.ai.studio.admin.dto.ChatMessage;
+import com.alibaba.cloud.ai.studio.admin.dto.ChatMessageMetrics;
+import com.alibaba.cloud.ai.studio.admin.dto.ChatSession;
+import com.alibaba.cloud.ai.studio.admin.dto.MockTool;
+import com.alibaba.cloud.ai.studio.admin.dto.ModelConfigInfo;
+import com.alibaba.fastjson.JSON;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.metadata.Usage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * 会话的紧凑二进制编码：变长整数长度前缀的UTF-8字符串、可空字段带存在标记；
+ * 模型参数和模拟工具结构不固定且体积小，以JSON字符串存储。
+ * <p>
+ * 解码时消息列表延迟解析：未访问消息的会话（如只读取模型配置）不会创建任何消息对象，
+ * 原样写回时直接复制已编码的消息字节。
+ * <p>
+ * 版本2在消息之后追加历史策略和摘要字段，仍可读取版本1的数据
+ */
+final class ChatSessionCodec {
+
+    private static final byte FORMAT_VERSION = 2;
+
+    private ChatSessionCodec() {
+    }
+
+    static byte[] encode(ChatSession session) {
+        Writer writer = new Writer(256);
+        writer.writeByte(FORMAT_VERSION);
+        writer.writeString(session.getSessionId());
+        writer.writeString(session.getPromptKey());
+        writer.writeString(session.getVersion());
+        writer.writeString(session.getTemplate());
+        writer.writeString(session.getVariables());
+        ModelConfigInfo modelConfig = session.getModelConfig();
+        writer.writeOptionalLong(modelConfig != null ? modelConfig.getModelId() : null);
+        writer.writeString(modelConfig != null && !modelConfig.getParameters().isEmpty()
+                ? JSON.toJSONString(modelConfig.getParameters()) : null);
+        writer.writeString(session.getMockTools() != null && !session.getMockTools().isEmpty()
+                ? JSON.toJSONString(session.getMockTools()) : null);
+        writer.writeOptionalLong(session.getCreateTime());
+        writer.writeOptionalLong(session.getLastUpdateTime());
+
+        List<ChatMessage> messages = session.getMessages() != null ? session.getMessages() : List.of();
+        writer.writeVarInt(messages.size());
+        if (messages instanceof LazyMessageList lazy && lazy.encoded != null) {
+            writer.writeVarInt(lazy.encoded.remaining());
+            writer.writeBytes(lazy.encoded.duplicate());
+        } else {
+            Writer messageWriter = new Writer(64 * Math.max(1, messages.size()));
+            for (ChatMessage message : messages) {
+                writeMessage(messageWriter, message);
+            }
+            writer.writeVarInt(messageWriter.size);
+            writer.writeBytes(ByteBuffer.wrap(messageWriter.bytes, 0, messageWriter.size));
+        }
+
+        writer.writeString(session.getHistoryPolicy() != null ? JSON.toJSONString(session.getHistoryPolicy()) : null);
+        writer.writeString(session.getHistorySummary());
+        writer.writeOptionalLong(session.getSummarizedMessageCount() != null
+                ? session.getSummarizedMessageCount().longValue() : null);
+        return writer.toByteArray();
+    }
+
+    /**
+     * 解码会话，消息列表持有 buffer 的只读切片，首次访问时才解析
+     */
+    static ChatSession decode(ByteBuffer buffer) {
+        Reader reader = new Reader(buffer);
+        byte version = reader.readByte();
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported session format version: " + version);
+        }
+        ChatSession session = new ChatSession();
+        session.setSessionId(reader.readString());
+        session.setPromptKey(reader.readString());
+        session.setVersion(reader.readString());
+        session.setTemplate(reader.readString());
+        session.setVariables(reader.readString());
+        Long modelId = reader.readOptionalLong();
+        String parameters = reader.readString();
+        if (modelId != null || parameters != null) {
+            ModelConfigInfo modelConfig = new ModelConfigInfo();
+            modelConfig.setModelId(modelId);
+            if (parameters != null) {
+                modelConfig.setParameters(new HashMap<>(JSON.parseObject(parameters)));
+            }
+            session.setModelConfig(modelConfig);
+        }
+        String mockTools = reader.readString();
+        session.setMockTools(mockTools != null ? JSON.parseArray(mockTools, MockTool.class) : new ArrayList<>());
+        session.setCreateTime(reader.readOptionalLong());
+        session.setLastUpdateTime(reader.readOptionalLong());
+
+        int messageCount = reader.readVarInt();
+        int messageBytes = reader.readVarInt();
+        ByteBuffer encodedMessages = buffer.slice(buffer.position(), messageBytes).asReadOnlyBuffer();
+        session.setMessages(new LazyMessageList(encodedMessages, messageCount));
+        buffer.position(buffer.position() + messageBytes);
+
+        if (version >= 2) {
+            String historyPolicy = reader.readString();
+            if (historyPolicy != null) {
+                session.setHistoryPolicy(JSON.parseObject(historyPolicy, ChatHistoryPolicy.class));
+            }
+            session.setHistorySummary(reader.readString());
+            Long summarizedMessageCount = reader.readOptionalLong();
+            session.setSummarizedMessageCount(summarizedMessageCount != null ? summarizedMessageCount.intValue() : null);
+        }
+        return session;
+    }
+
+    private static void writeMessage(Writer writer, ChatMessage message) {
+        writer.writeString(message.getRole());
+        writer.writeString(message.getContent());
+        writer.writeOptionalLong(message.getTimestamp());
+        ChatMessageMetrics metrics = message.getMetrics();
+        writer.writeByte((byte) (metrics != null ? 1 : 0));
+        if (metrics != null) {
+            writer.writeString(metrics.getTraceId());
+            Usage usage = metrics.getUsage();
+            writer.writeByte((byte) (usage != null ? 1 : 0));
+            if (usage != null) {
+                writer.writeOptionalLong(usage.getPromptTokens() != null ? usage.getPromptTokens().longValue() : null);
+                writer.writeOptionalLong(usage.getCompletionTokens() != null ? usage.getCompletionTokens().longValue() : null);
+                writer.writeOptionalLong(usage.getTotalTokens() != null ? usage.getTotalTokens().longValue() : null);
+            }
+        }
+    }
+
+    private static ChatMessage readMessage(Reader reader) {
+        ChatMessage message = new ChatMessage();
+        message.setRole(reader.readString());
+        message.setContent(reader.readString());
+        message.setTimestamp(reader.readOptionalLong());
+        if (reader.readByte() == 1) {
+            ChatMessageMetrics metrics = new ChatMessageMetrics();
+            metrics.setTraceId(reader.readString());
+            if (reader.readByte() == 1) {
+                Long promptTokens = reader.readOptionalLong();
+                Long completionTokens = reader.readOptionalLong();
+                Long totalTokens = reader.readOptionalLong();
+                metrics.setUsage(new DefaultUsage(toInteger(promptTokens), toInteger(completionTokens), toInteger(totalTokens)));
+            }
+            message.setMetrics(metrics);
+        }
+        return message;
+    }
+
+    private static Integer toInteger(Long value) {
+        return value != null ? value.intValue() : null;
+    }
+
+    /**
+     * 延迟解析的消息列表，首次访问元素或修改时整体解析为 ArrayList
+     */
+    static final class LazyMessageList extends AbstractList<ChatMessage> {
+
+        private ByteBuffer encoded;
+
+        private final int encodedSize;
+
+        private List<ChatMessage> decoded;
+
+        LazyMessageList(ByteBuffer encoded, int encodedSize) {
+            this.encoded = encoded;
+            this.encodedSize = encodedSize;
+        }
+
+        private List<ChatMessage> decoded() {
+            if (decoded == null) {
+                Reader reader = new Reader(encoded.duplicate());
+                List<ChatMessage> messages = new ArrayList<>(encodedSize + 2);
+                for (int i = 0; i < encodedSize; i++) {
+                    messages.add(readMessage(reader));
+                }
+                decoded = messages;
+                encoded = null;
+            }
+            return decoded;
+        }
+
+        @Override
+        public ChatMessage get(int index) {
+            return decoded().get(index);
+        }
+
+        @Override
+        public int size() {
+            return decoded != null ? decoded.size() : encodedSize;
+        }
+
+        @Override
+        public ChatMessage set(int index, ChatMessage element) {
+            return decoded().set(index, element);
+        }
+
+        @Override
+        public void add(int index, ChatMessage element) {
+            modCount++;
+            decoded().add(index, element);
+        }
+
+        @Override
+        public ChatMessage remove(int index) {
+            modCount++;
+            return decoded().remove(index);
+        }
+    }
+
+    private static final class Writer {
+
+        private byte[] bytes;
+
+        private int size;
+
+        Writer(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        void writeByte(byte value) {
+            ensureCapacity(1);
+            bytes[size++] = value;
+        }
+
+        void writeVarInt(int value) {
+            ensureCapacity(5);
+            while ((value & ~0x7F) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        void writeOptionalLong(Long value) {
+            writeByte((byte) (value != null ? 1 : 0));
+            if (value != null) {
+                ensureCapacity(8);
+                long v = value;
+                for (int shift = 56; shift >= 0; shift -= 8) {
+                    bytes[size++] = (byte) (v >>> shift);
+                }
+            }
+        }
+
+        /**
+         * 长度前缀为字节数加一，0表示null
+         */
+        void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(utf8.length + 1);
+            ensureCapacity(utf8.length);
+            System.arraycopy(utf8, 0, bytes, size, utf8.length);
+            size += utf8.length;
+        }
+
+        void writeBytes(ByteBuffer source) {
+            int length = source.remaining();
+            ensureCapacity(length);
+            source.get(bytes, size, length);
+            size += length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final ByteBuffer buffer;
+
+        Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        byte readByte() {
+            return buffer.get();
+        }
+
+        int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = buffer.get();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalStateException("Malformed varint");
+        }
+
+        Long readOptionalLong() {
+            return buffer.get() == 1 ? buffer.getLong() : null;
+        }
+
+        String readString() {
+            int length = readVarInt();
+            if (length == 0) {
+                return null;
+            }
+            byte[] utf8 = new byte[length - 1];
+            buffer.get(utf8);
+            return new String(utf8, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.alibaba.cloud.ai.studio.admin.service.session;
+
+import com.alibaba.cloud.ai.studio.admin.dto.ChatSession;
+
+import java.util.function.Consumer;
+
+/**
+ * 会话存储，实现由 studio.session.store 选择
+ */
+public interface ChatSessionStore {
+
+    /**
+     * 获取会话并刷新其访问时间
+     *
+     * @param sessionId 会话ID
+     * @return 会话对象，不存在或已过期时返回null
+     */
+    ChatSession get(String sessionId);
+
+    /**
+     * 判断会话是否存在，不刷新访问时间
+     *
+     * @param sessionId 会话ID
+     * @return 会话存在且未过期时返回true
+     */
+    boolean contains(String sessionId);
+
+    /**
+     * 写入或覆盖会话
+     *
+     * @param session 会话对象
+     */
+    void put(ChatSession session);
+
+    /**
+     * 删除会话
+     *
+     * @param sessionId 会话ID
+     */
+    void remove(String sessionId);
+
+    /**
+     * 执行过期清理等维护任务，由定时任务调用
+     */
+    void cleanUp();
+
+    /**
+     * 注册会话移除（删除、过期、淘汰）时的回调，覆盖写入不触发
+     *
+     * @param listener 参数为会话ID
+     */
+    void addRemovalListener(Consumer<String> listener);
+}
@@ -0,0 +1,401 @@
+package com.alibaba.cloud.ai.studio.admin.service.session;
+
+import com.alibaba.cloud.ai.studio.admin.config.ChatSessionProperties;
+import com.alibaba.cloud.ai.studio.admin.dto.ChatSession;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * 基于本地内存映射文件的会话存储，会话内容不驻留堆内，进程重启后从文件恢复。
+ * <p>
+ * 文件为追加写日志：每次写入或删除追加一条记录，堆内只保留会话ID到记录位置的索引。
+ * 记录格式为 [长度][CRC32][类型][时间戳][键长][键][值]，启动时顺序回放，遇到长度为0或校验失败
+ * （进程在写入中途退出）即停止。失效记录占比超过阈值时在定时维护中压缩：
+ * 将存活记录复制到新文件后原子替换
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "studio.session", name = "store", havingValue = "mmap")
+public class MappedChatSessionStore implements ChatSessionStore {
+
+    private static final String FILE_NAME = "sessions.dat";
+
+    private static final String COMPACT_FILE_NAME = "sessions.dat.compact";
+
+    private static final int MAGIC = 0x53455353;
+
+    private static final int FILE_VERSION = 1;
+
+    private static final int HEADER_SIZE = 8;
+
+    /**
+     * 长度(4) + CRC(4) + 类型(1) + 时间戳(8) + 键长(2)
+     */
+    private static final int RECORD_OVERHEAD = 19;
+
+    private static final byte TYPE_PUT = 1;
+
+    private static final byte TYPE_DELETE = 2;
+
+    /**
+     * 失效数据低于该值时不压缩，避免小文件频繁重写
+     */
+    private static final long MIN_COMPACTION_GARBAGE = 4L * 1024 * 1024;
+
+    private final Path directory;
+
+    private final long initialSize;
+
+    private final long maxSize;
+
+    private final double compactionRatio;
+
+    private final long expireAfterAccessMs;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Entry> index = new HashMap<>();
+
+    private final List<Consumer<String>> removalListeners = new CopyOnWriteArrayList<>();
+
+    private FileChannel channel;
+
+    private MappedByteBuffer buffer;
+
+    private int writePosition;
+
+    private long garbageBytes;
+
+    public MappedChatSessionStore(ChatSessionProperties sessionProperties) throws IOException {
+        ChatSessionProperties.Mmap mmap = sessionProperties.getMmap();
+        this.directory = Paths.get(mmap.getDirectory());
+        this.maxSize = Math.min(mmap.getMaxSize(), Integer.MAX_VALUE);
+        this.initialSize = Math.min(mmap.getInitialSize(), maxSize);
+        this.compactionRatio = mmap.getCompactionRatio();
+        this.expireAfterAccessMs = sessionProperties.getExpireAfterAccess().toMillis();
+        open();
+    }
+
+    @Override
+    public ChatSession get(String sessionId) {
+        Entry entry;
+        ChatSession session;
+        lock.readLock().lock();
+        try {
+            entry = index.get(sessionId);
+            if (entry == null) {
+                return null;
+            }
+            if (isExpired(entry, System.currentTimeMillis())) {
+                session = null;
+            } else {
+                // 追加写的记录不会被覆盖，压缩和扩容时旧映射在被引用期间仍然有效，可以安全地延迟解析
+                session = ChatSessionCodec.decode(buffer.slice(entry.valueOffset(), entry.valueLength()).asReadOnlyBuffer());
+                entry.lastAccessTime = System.currentTimeMillis();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (session == null) {
+            remove(sessionId);
+        }
+        return session;
+    }
+
+    @Override
+    public boolean contains(String sessionId) {
+        lock.readLock().lock();
+        try {
+            Entry entry = index.get(sessionId);
+            return entry != null && !isExpired(entry, System.currentTimeMillis());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(ChatSession session) {
+        byte[] key = session.getSessionId().getBytes(StandardCharsets.UTF_8);
+        byte[] value = ChatSessionCodec.encode(session);
+        lock.writeLock().lock();
+        try {
+            Entry previous = index.put(session.getSessionId(), append(TYPE_PUT, key, value));
+            if (previous != null) {
+                garbageBytes += previous.length;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(String sessionId) {
+        lock.writeLock().lock();
+        try {
+            if (!index.containsKey(sessionId)) {
+                return;
+            }
+            // 先追加删除标记再移除索引，追加触发压缩时被删除的记录仍按存活复制，计数保持一致
+            Entry tombstone = append(TYPE_DELETE, sessionId.getBytes(StandardCharsets.UTF_8), new byte[0]);
+            garbageBytes += index.remove(sessionId).length + tombstone.length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        removalListeners.forEach(listener -> listener.accept(sessionId));
+    }
+
+    @Override
+    public void cleanUp() {
+        long now = System.currentTimeMillis();
+        List<String> expired = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            index.forEach((sessionId, entry) -> {
+                if (isExpired(entry, now)) {
+                    expired.add(sessionId);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        expired.forEach(this::remove);
+
+        lock.writeLock().lock();
+        try {
+            if (garbageBytes >= MIN_COMPACTION_GARBAGE && garbageBytes > (writePosition - HEADER_SIZE) * compactionRatio) {
+                compact();
+            }
+            buffer.force();
+        } catch (IOException e) {
+            log.error("会话存储维护失败", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("会话存储: sessions={}, expired={}, used={}, garbage={}", index.size(), expired.size(),
+                writePosition, garbageBytes);
+    }
+
+    @Override
+    public void addRemovalListener(Consumer<String> listener) {
+        removalListeners.add(listener);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            buffer.force();
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        Files.deleteIfExists(directory.resolve(COMPACT_FILE_NAME));
+        Path file = directory.resolve(FILE_NAME);
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = Math.min(Integer.MAX_VALUE, Math.max(initialSize, channel.size()));
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        if (buffer.getInt(0) == 0) {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, FILE_VERSION);
+        } else if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FILE_VERSION) {
+            throw new IllegalStateException("Unrecognized session store file: " + file);
+        }
+        recover();
+        log.info("会话存储已加载: file={}, sessions={}, used={}", file, index.size(), writePosition);
+    }
+
+    /**
+     * 顺序回放日志重建索引，遇到未写完的记录即停止，后续写入从该位置覆盖。
+     * 读取不写日志，记录时间戳只是最后写入时间，恢复的会话从启动时刻重新计算空闲时间，
+     * 避免重启前刚读取过的会话在启动后立即过期
+     */
+    private void recover() {
+        int position = HEADER_SIZE;
+        long startupTime = System.currentTimeMillis();
+        while (position + RECORD_OVERHEAD <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length < RECORD_OVERHEAD - 4 || position + 4L + length > buffer.capacity()
+                    || buffer.getInt(position + 4) != crc(buffer, position + 8, length - 4)) {
+                break;
+            }
+            byte type = buffer.get(position + 8);
+            int keyLength = buffer.getShort(position + 17) & 0xFFFF;
+            if (keyLength > length + 4 - RECORD_OVERHEAD) {
+                break;
+            }
+            byte[] key = new byte[keyLength];
+            buffer.get(position + RECORD_OVERHEAD, key);
+            String sessionId = new String(key, StandardCharsets.UTF_8);
+            Entry previous;
+            if (type == TYPE_PUT) {
+                Entry entry = new Entry(position, 4 + length, keyLength);
+                entry.lastAccessTime = startupTime;
+                previous = index.put(sessionId, entry);
+            } else {
+                previous = index.remove(sessionId);
+                garbageBytes += 4 + length;
+            }
+            if (previous != null) {
+                garbageBytes += previous.length;
+            }
+            position += 4 + length;
+        }
+        writePosition = position;
+        markEnd();
+    }
+
+    private Entry append(byte type, byte[] key, byte[] value) {
+        int recordLength = RECORD_OVERHEAD + key.length + value.length;
+        ensureCapacity(recordLength);
+        int position = writePosition;
+        buffer.putInt(position, recordLength - 4);
+        buffer.put(position + 8, type);
+        buffer.putLong(position + 9, System.currentTimeMillis());
+        buffer.putShort(position + 17, (short) key.length);
+        buffer.put(position + RECORD_OVERHEAD, key);
+        buffer.put(position + RECORD_OVERHEAD + key.length, value);
+        buffer.putInt(position + 4, crc(buffer, position + 8, recordLength - 8));
+        writePosition += recordLength;
+        markEnd();
+        Entry entry = new Entry(position, recordLength, key.length);
+        entry.lastAccessTime = System.currentTimeMillis();
+        return entry;
+    }
+
+    /**
+     * 在日志末尾写入长度0，回放时不会把此前残留的字节当作记录
+     */
+    private void markEnd() {
+        if (writePosition + 4 <= buffer.capacity()) {
+            buffer.putInt(writePosition, 0);
+        }
+    }
+
+    private void ensureCapacity(int recordLength) {
+        if ((long) writePosition + recordLength + 4 <= buffer.capacity()) {
+            return;
+        }
+        try {
+            if (garbageBytes >= recordLength && garbageBytes > (writePosition - HEADER_SIZE) * compactionRatio) {
+                compact();
+                if ((long) writePosition + recordLength + 4 <= buffer.capacity()) {
+                    return;
+                }
+            }
+            long required = (long) writePosition + recordLength + 4;
+            if (required > maxSize) {
+                throw new IllegalStateException("会话存储已满: " + maxSize + " bytes");
+            }
+            long newSize = Math.min(maxSize, Math.max(required, (long) buffer.capacity() * 2));
+            buffer.force();
+            // 旧映射在不再被引用后由GC释放
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, newSize);
+            log.info("会话存储扩容: {} bytes", newSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("会话存储扩容失败", e);
+        }
+    }
+
+    /**
+     * 将存活记录复制到新文件后原子替换，调用方持有写锁
+     */
+    private void compact() throws IOException {
+        long liveBytes = writePosition - HEADER_SIZE - garbageBytes;
+        long size = Math.min(maxSize, Math.max(initialSize, HEADER_SIZE + liveBytes * 2));
+        Path compactFile = directory.resolve(COMPACT_FILE_NAME);
+        FileChannel compactChannel = FileChannel.open(compactFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer compactBuffer = compactChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        compactBuffer.putInt(0, MAGIC);
+        compactBuffer.putInt(4, FILE_VERSION);
+        int position = HEADER_SIZE;
+        Map<String, Entry> relocated = new HashMap<>(index.size() * 2);
+        for (Map.Entry<String, Entry> item : index.entrySet()) {
+            Entry entry = item.getValue();
+            compactBuffer.put(position, buffer, entry.offset, entry.length);
+            Entry moved = new Entry(position, entry.length, entry.keyLength);
+            moved.lastAccessTime = entry.lastAccessTime;
+            relocated.put(item.getKey(), moved);
+            position += entry.length;
+        }
+        if (position + 4 <= compactBuffer.capacity()) {
+            compactBuffer.putInt(position, 0);
+        }
+        compactBuffer.force();
+        Files.move(compactFile, directory.resolve(FILE_NAME), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+
+        long before = writePosition;
+        channel.close();
+        channel = compactChannel;
+        buffer = compactBuffer;
+        index.putAll(relocated);
+        writePosition = position;
+        garbageBytes = 0;
+        log.info("会话存储压缩完成: {} -> {} bytes, sessions={}", before, position, index.size());
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return now - entry.lastAccessTime > expireAfterAccessMs;
+    }
+
+    private static int crc(ByteBuffer buffer, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * 索引项：记录在文件中的位置
+     */
+    private static final class Entry {
+
+        private final int offset;
+
+        private final int length;
+
+        private final int keyLength;
+
+        private volatile long lastAccessTime;
+
+        Entry(int offset, int length, int keyLength) {
+            this.offset = offset;
+            this.length = length;
+            this.keyLength = keyLength;
+        }
+
+        int valueOffset() {
+            return offset + RECORD_OVERHEAD + keyLength;
+        }
+
+        int valueLength() {
+            return length - RECORD_OVERHEAD - keyLength;
+        }
+    }
+}
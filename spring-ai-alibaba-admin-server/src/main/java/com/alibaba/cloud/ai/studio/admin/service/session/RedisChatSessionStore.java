@@ -0,0 +1,199 @@
+package com.alibaba.cloud.ai.studio.admin.service.session;
+
+import com.alibaba.cloud.ai.studio.admin.config.ChatSessionProperties;
+import com.alibaba.cloud.ai.studio.admin.dto.ChatSession;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 基于 Redis 的会话存储，多个节点共享会话，请求可落到任意节点。
+ * <p>
+ * 会话以 {@link ChatSessionCodec} 编码后存为字节数组，键的过期时间即会话空闲超时，读取时顺带续期。
+ * 本地近端缓存保存编码后的字节，每次读取重新解码，调用方修改会话不会污染缓存；
+ * 写入和删除通过频道广播失效通知，其他节点收到后丢弃本地副本
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "studio.session", name = "store", havingValue = "redis")
+public class RedisChatSessionStore implements ChatSessionStore {
+
+    private static final String INVALIDATION_CHANNEL = "invalidation";
+
+    private static final char TYPE_PUT = 'P';
+
+    private static final char TYPE_DELETE = 'D';
+
+    private final RedissonClient redissonClient;
+
+    private final String keyPrefix;
+
+    private final long ttlMillis;
+
+    /**
+     * 近端缓存命中时的续期间隔，避免每次读取都访问 Redis
+     */
+    private final long touchIntervalMillis;
+
+    private final Cache<String, NearEntry> nearCache;
+
+    private final RTopic invalidationTopic;
+
+    private final int listenerId;
+
+    /**
+     * 当前节点标识，忽略自己发出的失效通知
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 本地写入、删除和收到的失效通知计数，均在修改 Redis 和近端缓存之前递增；
+     * 读取期间计数变化时不回填近端缓存，避免缓存旧值
+     */
+    private final AtomicLong mutations = new AtomicLong();
+
+    private final List<Consumer<String>> removalListeners = new CopyOnWriteArrayList<>();
+
+    public RedisChatSessionStore(RedissonClient redissonClient, ChatSessionProperties sessionProperties,
+            MeterRegistry meterRegistry) {
+        ChatSessionProperties.Redis redis = sessionProperties.getRedis();
+        this.redissonClient = redissonClient;
+        this.keyPrefix = redis.getKeyPrefix();
+        this.ttlMillis = sessionProperties.getExpireAfterAccess().toMillis();
+        this.touchIntervalMillis = Math.max(1_000L, ttlMillis / 10);
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(redis.getNearCacheSize())
+                .expireAfterWrite(redis.getNearCacheTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, "chat.sessions.near");
+        this.invalidationTopic = redissonClient.getTopic(keyPrefix + INVALIDATION_CHANNEL, StringCodec.INSTANCE);
+        this.listenerId = invalidationTopic.addListener(String.class, (channel, message) -> onInvalidation(message));
+    }
+
+    @Override
+    public ChatSession get(String sessionId) {
+        NearEntry cached = nearCache.getIfPresent(sessionId);
+        if (cached != null) {
+            long now = System.currentTimeMillis();
+            if (now - cached.touchedAt > touchIntervalMillis) {
+                cached.touchedAt = now;
+                bucket(sessionId).expireAsync(ttlMillis, TimeUnit.MILLISECONDS);
+            }
+            return ChatSessionCodec.decode(ByteBuffer.wrap(cached.value));
+        }
+
+        long mutationsBefore = mutations.get();
+        byte[] value = bucket(sessionId).getAndExpire(Duration.ofMillis(ttlMillis));
+        if (value == null) {
+            return null;
+        }
+        // 在键的原子操作内检查计数，与写入、删除对近端缓存的修改串行，不会覆盖更新的值或回填已删除的会话
+        nearCache.asMap().compute(sessionId, (key, current) ->
+                current != null || mutations.get() != mutationsBefore ? current : new NearEntry(value));
+        return ChatSessionCodec.decode(ByteBuffer.wrap(value));
+    }
+
+    @Override
+    public boolean contains(String sessionId) {
+        return nearCache.getIfPresent(sessionId) != null || bucket(sessionId).isExists();
+    }
+
+    @Override
+    public void put(ChatSession session) {
+        String sessionId = session.getSessionId();
+        byte[] value = ChatSessionCodec.encode(session);
+        mutations.incrementAndGet();
+        bucket(sessionId).set(value, ttlMillis, TimeUnit.MILLISECONDS);
+        nearCache.put(sessionId, new NearEntry(value));
+        publish(TYPE_PUT, sessionId);
+    }
+
+    @Override
+    public void remove(String sessionId) {
+        mutations.incrementAndGet();
+        bucket(sessionId).delete();
+        nearCache.invalidate(sessionId);
+        publish(TYPE_DELETE, sessionId);
+        removalListeners.forEach(listener -> listener.accept(sessionId));
+    }
+
+    @Override
+    public void cleanUp() {
+        // 过期由 Redis 键的过期时间负责，这里只维护近端缓存
+        nearCache.cleanUp();
+        log.debug("会话近端缓存: size={}, stats={}", nearCache.estimatedSize(), nearCache.stats());
+    }
+
+    @Override
+    public void addRemovalListener(Consumer<String> listener) {
+        removalListeners.add(listener);
+    }
+
+    @PreDestroy
+    public void close() {
+        invalidationTopic.removeListener(listenerId);
+    }
+
+    private RBucket<byte[]> bucket(String sessionId) {
+        return redissonClient.getBucket(keyPrefix + sessionId, ByteArrayCodec.INSTANCE);
+    }
+
+    /**
+     * 通知格式：类型:节点ID:会话ID
+     */
+    private void publish(char type, String sessionId) {
+        invalidationTopic.publishAsync(type + ":" + nodeId + ":" + sessionId).whenComplete((receivers, e) -> {
+            if (e != null) {
+                log.warn("发布会话失效通知失败: {}", sessionId, e);
+            }
+        });
+    }
+
+    private void onInvalidation(String message) {
+        String[] parts = message.split(":", 3);
+        if (parts.length != 3 || nodeId.equals(parts[1])) {
+            return;
+        }
+        String sessionId = parts[2];
+        mutations.incrementAndGet();
+        nearCache.invalidate(sessionId);
+        if (parts[0].charAt(0) == TYPE_DELETE) {
+            removalListeners.forEach(listener -> listener.accept(sessionId));
+        }
+    }
+
+    /**
+     * 近端缓存项：编码后的会话和最近一次续期时间
+     */
+    private static final class NearEntry {
+
+        private final byte[] value;
+
+        private volatile long touchedAt;
+
+        NearEntry(byte[] value) {
+            this.value = value;
+            this.touchedAt = System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.alibaba.cloud.ai.studio.admin.utils;
+
+import com.alibaba.cloud.ai.studio.admin.dto.ExperimentSamplingConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * 实验数据采样工具
+ *
+ * 返回的样本顺序本身也是随机的（分层采样时各层按比例交错），
+ * 因此按顺序评估时任意前缀都近似是总体的无偏样本，可以直接用于提前终止判断。
+ */
+public class ExperimentSamplingUtils {
+
+    public static <T> List<T> sample(List<T> items, ExperimentSamplingConfig config, Function<T, String> strataKey) {
+        if (config == null || items.isEmpty()) {
+            return items;
+        }
+        int sampleSize = config.resolveSampleSize(items.size());
+        Random random = config.getSeed() != null ? new Random(config.getSeed()) : new Random();
+
+        if (ExperimentSamplingConfig.STRATEGY_STRATIFIED.equalsIgnoreCase(config.getStrategy())) {
+            return stratifiedSample(items, sampleSize, random, strataKey);
+        }
+
+        List<T> shuffled = new ArrayList<>(items);
+        Collections.shuffle(shuffled, random);
+        return new ArrayList<>(shuffled.subList(0, sampleSize));
+    }
+
+    /**
+     * 按层比例分配样本（最大余数法），再按各层内的相对位置交错排列
+     */
+    private static <T> List<T> stratifiedSample(List<T> items, int sampleSize, Random random, Function<T, String> strataKey) {
+        Map<String, List<T>> strata = new LinkedHashMap<>();
+        for (T item : items) {
+            String key = strataKey.apply(item);
+            strata.computeIfAbsent(key == null ? "" : key, k -> new ArrayList<>()).add(item);
+        }
+
+        int total = items.size();
+        List<String> keys = new ArrayList<>(strata.keySet());
+        int[] allocation = new int[keys.size()];
+        double[] remainders = new double[keys.size()];
+        int allocated = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            double exact = (double) sampleSize * strata.get(keys.get(i)).size() / total;
+            allocation[i] = (int) Math.floor(exact);
+            remainders[i] = exact - allocation[i];
+            allocated += allocation[i];
+        }
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingDouble((Integer i) -> remainders[i]).reversed());
+        for (int i = 0; allocated < sampleSize && i < order.size(); i++) {
+            allocation[order.get(i)]++;
+            allocated++;
+        }
+
+        List<Map.Entry<Double, T>> positioned = new ArrayList<>(sampleSize);
+        for (int i = 0; i < keys.size(); i++) {
+            List<T> stratum = new ArrayList<>(strata.get(keys.get(i)));
+            Collections.shuffle(stratum, random);
+            int n = allocation[i];
+            for (int j = 0; j < n; j++) {
+                positioned.add(Map.entry((j + random.nextDouble()) / n, stratum.get(j)));
+            }
+        }
+        positioned.sort(Map.Entry.comparingByKey());
+
+        List<T> result = new ArrayList<>(positioned.size());
+        for (Map.Entry<Double, T> entry : positioned) {
+            result.add(entry.getValue());
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,340 @@
+package com.alibaba.cloud.ai.studio.admin.utils;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONObject;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+
+/**
+ * 从模型输出中提取第一个JSON对象：兼容Markdown代码块和前后的说明文字，解析失败时修复常见问题
+ * （尾逗号、单引号、未加引号的键、Python字面量、注释、字符串中的换行、输出被截断）后再解析。
+ * <p>
+ * 实例可按流式分片增量追加，扫描位置在分片间保留。候选对象闭合后先尝试解析，解析成功时 {@link #append} 返回true，
+ * 调用方即可停止读取；说明文字中的花括号（如“把 {name} 替换为…”）解析失败，从其后继续扫描下一个候选
+ */
+@Slf4j
+public class JsonExtractor {
+
+    /**
+     * 最多尝试的起始位置数，避免说明文字中大量花括号导致反复解析
+     */
+    private static final int MAX_CANDIDATES = 8;
+
+    private final StringBuilder buffer = new StringBuilder();
+
+    private int position;
+
+    private int start = -1;
+
+    private int failedCandidates;
+
+    private JSONObject object;
+
+    private int depth;
+
+    private boolean inString;
+
+    private boolean escaped;
+
+    /**
+     * 追加一个分片并继续扫描
+     *
+     * @return 是否已得到可解析的JSON对象
+     */
+    public boolean append(CharSequence chunk) {
+        if (object != null) {
+            return true;
+        }
+        if (chunk != null) {
+            buffer.append(chunk);
+        }
+        while (failedCandidates < MAX_CANDIDATES) {
+            int candidateEnd = scan(buffer, position);
+            if (candidateEnd < 0) {
+                position = buffer.length();
+                return false;
+            }
+            object = parseCandidate(buffer, start, candidateEnd);
+            if (object != null) {
+                return true;
+            }
+            // 闭合的候选无法解析，从其起始位置之后重新扫描
+            failedCandidates++;
+            position = start + 1;
+            start = -1;
+            depth = 0;
+            inString = false;
+            escaped = false;
+        }
+        position = buffer.length();
+        return false;
+    }
+
+    public boolean isComplete() {
+        return object != null;
+    }
+
+    /**
+     * 当前已接收内容中的第一个可解析的JSON对象，最后一个候选未闭合时按截断修复
+     *
+     * @return 解析出的对象，没有找到或无法修复时返回null
+     */
+    public JSONObject getObject() {
+        if (object != null) {
+            return object;
+        }
+        return start >= 0 ? parseCandidate(buffer, start, buffer.length()) : null;
+    }
+
+    /**
+     * 将当前提取出的对象绑定为指定类型
+     */
+    public <T> T bind(Class<T> type) {
+        JSONObject object = getObject();
+        return object != null ? object.toJavaObject(type) : null;
+    }
+
+    /**
+     * 从完整文本中提取第一个可解析的JSON对象
+     *
+     * @return 解析出的对象，没有找到时返回null
+     */
+    public static JSONObject extractObject(String text) {
+        if (text == null) {
+            return null;
+        }
+        int from = 0;
+        for (int attempt = 0; attempt < MAX_CANDIDATES; attempt++) {
+            int candidateStart = text.indexOf('{', from);
+            if (candidateStart < 0) {
+                return null;
+            }
+            JsonExtractor extractor = new JsonExtractor();
+            extractor.start = candidateStart;
+            extractor.depth = 1;
+            int candidateEnd = extractor.scan(text, candidateStart + 1);
+            JSONObject object = parseCandidate(text, candidateStart, candidateEnd >= 0 ? candidateEnd : text.length());
+            if (object != null || candidateEnd < 0) {
+                return object;
+            }
+            from = candidateStart + 1;
+        }
+        return null;
+    }
+
+    /**
+     * 从完整文本中提取第一个JSON对象并绑定为指定类型
+     *
+     * @return 绑定结果，没有找到时返回null
+     */
+    public static <T> T parse(String text, Class<T> type) {
+        JSONObject object = extractObject(text);
+        return object != null ? object.toJavaObject(type) : null;
+    }
+
+    /**
+     * 从 from 开始扫描，跟踪字符串和括号深度
+     *
+     * @return 对象闭合后的结束位置（不含），未闭合时返回-1
+     */
+    private int scan(CharSequence text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (start < 0) {
+                if (c == '{') {
+                    start = i;
+                    depth = 1;
+                }
+                continue;
+            }
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+            if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if ((c == '}' || c == ']') && --depth == 0) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static JSONObject parseCandidate(CharSequence text, int from, int to) {
+        String candidate = text.subSequence(from, to).toString();
+        try {
+            return JSON.parseObject(candidate);
+        } catch (Exception e) {
+            log.debug("JSON解析失败，尝试修复: {}", e.getMessage());
+        }
+        try {
+            return JSON.parseObject(repair(candidate));
+        } catch (Exception e) {
+            log.debug("JSON修复后仍无法解析: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 修复常见的JSON问题，单次线性扫描
+     */
+    static String repair(CharSequence json) {
+        StringBuilder out = new StringBuilder(json.length() + 16);
+        char[] stack = new char[16];
+        int top = 0;
+        char quote = 0;
+        boolean escape = false;
+        boolean stringIsKey = false;
+        int length = json.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = json.charAt(i);
+            if (quote != 0) {
+                if (escape) {
+                    escape = false;
+                    if (c == '\'' && quote == '\'') {
+                        out.setLength(out.length() - 1);
+                    }
+                    out.append(c);
+                } else if (c == '\\') {
+                    escape = true;
+                    out.append(c);
+                } else if (c == quote) {
+                    quote = 0;
+                    out.append('"');
+                } else if (c == '"') {
+                    out.append("\\\"");
+                } else if (c == '\n') {
+                    out.append("\\n");
+                } else if (c == '\r') {
+                    out.append("\\r");
+                } else if (c == '\t') {
+                    out.append("\\t");
+                } else if (c < 0x20) {
+                    out.append(String.format("\\u%04x", (int) c));
+                } else {
+                    out.append(c);
+                }
+                continue;
+            }
+
+            if (c == '"' || c == '\'') {
+                char previous = lastSignificant(out);
+                stringIsKey = top > 0 && stack[top - 1] == '}' && (previous == '{' || previous == ',');
+                quote = c;
+                out.append('"');
+            } else if (c == '/' && i + 1 < length && json.charAt(i + 1) == '/') {
+                while (i + 1 < length && json.charAt(i + 1) != '\n') {
+                    i++;
+                }
+            } else if (c == '/' && i + 1 < length && json.charAt(i + 1) == '*') {
+                int close = indexOf(json, "*/", i + 2);
+                i = close < 0 ? length : close + 1;
+            } else if (c == '{' || c == '[') {
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, top * 2);
+                }
+                stack[top++] = c == '{' ? '}' : ']';
+                out.append(c);
+            } else if (c == '}' || c == ']') {
+                removeTrailingComma(out);
+                if (top > 0 && stack[top - 1] == c) {
+                    top--;
+                }
+                out.append(c);
+            } else if (Character.isLetter(c) || c == '_' || c == '$') {
+                int identifierEnd = i + 1;
+                while (identifierEnd < length && isIdentifierPart(json.charAt(identifierEnd))) {
+                    identifierEnd++;
+                }
+                char previous = lastSignificant(out);
+                if (previous == 0 || previous == '{' || previous == '[' || previous == ',' || previous == ':') {
+                    String identifier = json.subSequence(i, identifierEnd).toString();
+                    out.append(literal(identifier));
+                    i = identifierEnd - 1;
+                } else {
+                    out.append(c);
+                }
+            } else {
+                out.append(c);
+            }
+        }
+
+        // 输出被截断：闭合字符串，补全悬空的键值，再依次闭合未结束的括号
+        if (quote != 0) {
+            if (escape) {
+                out.setLength(out.length() - 1);
+            }
+            out.append('"');
+        }
+        if (stringIsKey && lastSignificant(out) == '"') {
+            out.append(":null");
+        }
+        while (top > 0) {
+            removeTrailingComma(out);
+            if (lastSignificant(out) == ':') {
+                out.append("null");
+            }
+            out.append(stack[--top]);
+        }
+        return out.toString();
+    }
+
+    private static String literal(String identifier) {
+        return switch (identifier) {
+            case "true", "True", "TRUE" -> "true";
+            case "false", "False", "FALSE" -> "false";
+            case "null", "None", "NULL", "NaN", "Infinity", "undefined" -> "null";
+            default -> "\"" + identifier + "\"";
+        };
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '-';
+    }
+
+    private static char lastSignificant(StringBuilder out) {
+        for (int i = out.length() - 1; i >= 0; i--) {
+            char c = out.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c;
+            }
+        }
+        return 0;
+    }
+
+    private static void removeTrailingComma(StringBuilder out) {
+        int i = out.length() - 1;
+        while (i >= 0 && Character.isWhitespace(out.charAt(i))) {
+            i--;
+        }
+        if (i >= 0 && out.charAt(i) == ',') {
+            out.setLength(i);
+        }
+    }
+
+    private static int indexOf(CharSequence text, String target, int from) {
+        for (int i = from; i + target.length() <= text.length(); i++) {
+            boolean matched = true;
+            for (int j = 0; j < target.length(); j++) {
+                if (text.charAt(i + j) != target.charAt(j)) {
+                    matched = false;
+                    break;
+                }
+            }
+            if (matched) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
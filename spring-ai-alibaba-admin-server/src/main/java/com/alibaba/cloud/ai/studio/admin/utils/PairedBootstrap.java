@@ -0,0 +1,130 @@
+package com.alibaba.cloud.ai.studio.admin.utils;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 配对Bootstrap：对配对得分差做有放回重采样，得到平均差的百分位置信区间和双侧p值。
+ * 重采样在基本类型数组上进行，按重采样次数切分后交给 ForkJoin 并行执行
+ */
+public class PairedBootstrap {
+
+    /**
+     * 每个叶子任务处理的抽样次数上限（重采样次数 × 样本量）
+     */
+    private static final int LEAF_WORK = 1 << 20;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+
+        private final double baseMean;
+
+        private final double targetMean;
+
+        private final double meanDelta;
+
+        private final double lowerBound;
+
+        private final double upperBound;
+
+        private final double pValue;
+    }
+
+    /**
+     * @param base 基准得分，前 n 个有效
+     * @param target 对比得分，与 base 按下标配对
+     * @param seed 随机种子，为空时每次结果不同
+     */
+    public static Result run(double[] base, double[] target, int n, int resamples, double confidenceLevel, Long seed) {
+        if (n == 0) {
+            return new Result(0, 0, 0, 0, 0, 1.0);
+        }
+
+        double baseSum = 0;
+        double targetSum = 0;
+        double[] deltas = new double[n];
+        for (int i = 0; i < n; i++) {
+            baseSum += base[i];
+            targetSum += target[i];
+            deltas[i] = target[i] - base[i];
+        }
+        double meanDelta = (targetSum - baseSum) / n;
+
+        double[] means = new double[resamples];
+        SplittableRandom random = seed != null ? new SplittableRandom(seed) : new SplittableRandom();
+        int threshold = Math.max(1, LEAF_WORK / n);
+        ForkJoinPool.commonPool().invoke(new ResampleTask(deltas, means, 0, resamples, threshold, random));
+        Arrays.sort(means);
+
+        double alpha = 1 - confidenceLevel;
+        double lowerBound = percentile(means, alpha / 2);
+        double upperBound = percentile(means, 1 - alpha / 2);
+
+        // 零假设下的分布取重采样分布平移到0：偏离观察值不小于|meanDelta|的比例即为双侧p值
+        double observed = Math.abs(meanDelta);
+        int extreme = 0;
+        for (double mean : means) {
+            if (Math.abs(mean - meanDelta) >= observed) {
+                extreme++;
+            }
+        }
+        double pValue = (extreme + 1.0) / (resamples + 1.0);
+
+        return new Result(baseSum / n, targetSum / n, meanDelta, lowerBound, upperBound, pValue);
+    }
+
+    private static double percentile(double[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.min(Math.max(index, 0), sorted.length - 1)];
+    }
+
+    private static class ResampleTask extends RecursiveAction {
+
+        private final double[] deltas;
+
+        private final double[] means;
+
+        private final int from;
+
+        private final int to;
+
+        private final int threshold;
+
+        private final SplittableRandom random;
+
+        ResampleTask(double[] deltas, double[] means, int from, int to, int threshold, SplittableRandom random) {
+            this.deltas = deltas;
+            this.means = means;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                int n = deltas.length;
+                for (int b = from; b < to; b++) {
+                    double sum = 0;
+                    for (int i = 0; i < n; i++) {
+                        sum += deltas[random.nextInt(n)];
+                    }
+                    means[b] = sum / n;
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            // 在父任务中先拆分随机源，保证相同种子下结果确定
+            ResampleTask left = new ResampleTask(deltas, means, from, mid, threshold, random.split());
+            ResampleTask right = new ResampleTask(deltas, means, mid, to, threshold, random);
+            invokeAll(left, right);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.alibaba.cloud.ai.studio.admin.utils;
+
+import com.alibaba.fastjson.JSONObject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+
+/**
+ * 得分直方图：得分为两位小数的 0.00-1.00，按 0.01 分为101个桶，桶即得分本身，
+ * 因此分位数和任意两位小数分数线的通过率都是精确值，且与结果行数无关
+ */
+public class ScoreHistogram {
+
+    public static final int BUCKET_COUNT = 101;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+
+    private long total;
+
+    /**
+     * 累加某个得分的结果数量，超出 [0, 1] 的得分计入两端
+     */
+    public void add(BigDecimal score, long count) {
+        if (score == null || count <= 0) {
+            return;
+        }
+        counts[bucketOf(score)] += count;
+        total += count;
+    }
+
+    /**
+     * 从汇总表中的稀疏JSON（{"得分*100": 数量}）还原
+     */
+    public static ScoreHistogram fromJson(String json) {
+        ScoreHistogram histogram = new ScoreHistogram();
+        if (json == null || json.isEmpty()) {
+            return histogram;
+        }
+        for (Map.Entry<String, Object> entry : JSONObject.parseObject(json).entrySet()) {
+            int bucket = Math.max(0, Math.min(BUCKET_COUNT - 1, Integer.parseInt(entry.getKey())));
+            long count = ((Number) entry.getValue()).longValue();
+            histogram.counts[bucket] += count;
+            histogram.total += count;
+        }
+        return histogram;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public double getMean() {
+        if (total == 0) {
+            return 0.0;
+        }
+        double sum = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            sum += counts[i] * (double) i;
+        }
+        return sum / total / 100;
+    }
+
+    /**
+     * 最近秩分位数：累计数量首次达到 ceil(q * total) 的得分
+     */
+    public BigDecimal quantile(double q) {
+        if (total == 0) {
+            return null;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * total));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return scoreOf(i);
+            }
+        }
+        return scoreOf(BUCKET_COUNT - 1);
+    }
+
+    /**
+     * 得分不低于分数线的比例
+     */
+    public BigDecimal passRate(BigDecimal threshold) {
+        if (total == 0) {
+            return null;
+        }
+        int from = threshold.movePointRight(2).setScale(0, RoundingMode.CEILING).intValue();
+        long passed = 0;
+        for (int i = Math.max(0, from); i < BUCKET_COUNT; i++) {
+            passed += counts[i];
+        }
+        return BigDecimal.valueOf(passed).divide(BigDecimal.valueOf(total), 4, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 合并为 binCount 个等宽区间的数量，最后一个区间包含 1.00
+     */
+    public long[] bins(int binCount) {
+        long[] bins = new long[binCount];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bins[Math.min(binCount - 1, i * binCount / (BUCKET_COUNT - 1))] += counts[i];
+        }
+        return bins;
+    }
+
+    private static int bucketOf(BigDecimal score) {
+        int bucket = score.movePointRight(2).setScale(0, RoundingMode.HALF_UP).intValue();
+        return Math.max(0, Math.min(BUCKET_COUNT - 1, bucket));
+    }
+
+    private static BigDecimal scoreOf(int bucket) {
+        return BigDecimal.valueOf(bucket, 2);
+    }
+}
@@ -0,0 +1,90 @@
+package com.alibaba.cloud.ai.studio.admin.utils;
+
+/**
+ * 评分统计工具：增量均值/方差（Welford算法）与正态近似置信区间
+ */
+public class ScoreStatistics {
+
+    private long count;
+
+    private double mean;
+
+    private double m2;
+
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * 样本标准差
+     */
+    public double getStdDev() {
+        return count > 1 ? Math.sqrt(m2 / (count - 1)) : 0.0;
+    }
+
+    /**
+     * 平均分置信区间的半宽
+     */
+    public double getHalfWidth(double confidenceLevel) {
+        return halfWidth(getStdDev(), count, confidenceLevel);
+    }
+
+    public static double halfWidth(double stdDev, long count, double confidenceLevel) {
+        if (count <= 1) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return zScore(confidenceLevel) * stdDev / Math.sqrt(count);
+    }
+
+    /**
+     * 双侧置信水平对应的标准正态分位数
+     */
+    public static double zScore(double confidenceLevel) {
+        if (confidenceLevel <= 0 || confidenceLevel >= 1) {
+            throw new IllegalArgumentException("Confidence level must be in (0, 1): " + confidenceLevel);
+        }
+        return inverseNormal(1 - (1 - confidenceLevel) / 2);
+    }
+
+    /**
+     * 标准正态分布的分位函数（Acklam有理逼近，相对误差约1e-9）
+     */
+    public static double inverseNormal(double p) {
+        final double[] a = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+                1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+        final double[] b = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+                6.680131188771972e+01, -1.328068155288572e+01};
+        final double[] c = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+                -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+        final double[] d = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00,
+                3.754408661907416e+00};
+        final double pLow = 0.02425;
+
+        if (p < pLow) {
+            double q = Math.sqrt(-2 * Math.log(p));
+            return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+                    / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        if (p > 1 - pLow) {
+            double q = Math.sqrt(-2 * Math.log(1 - p));
+            return -(((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+                    / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        double q = p - 0.5;
+        double r = q * q;
+        return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q
+                / (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+    }
+
+}
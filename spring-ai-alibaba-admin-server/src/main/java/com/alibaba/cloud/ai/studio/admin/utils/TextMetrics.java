@@ -0,0 +1,204 @@
+package com.alibaba.cloud.ai.studio.admin.utils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 文本相似度指标：编辑距离、ROUGE-L、BLEU。
+ * 分词时连续的字母数字为一个词、中日韩等其他字符单字成词，词映射为整数ID后在基本类型数组上计算
+ */
+public final class TextMetrics {
+
+    private static final int BLEU_MAX_ORDER = 4;
+
+    private TextMetrics() {
+    }
+
+    /**
+     * 归一化编辑相似度：1 - 编辑距离 / 较长字符串长度，两串都为空时为1
+     */
+    public static double levenshteinSimilarity(String a, String b) {
+        int maxLength = Math.max(a.length(), b.length());
+        if (maxLength == 0) {
+            return 1.0;
+        }
+        return 1.0 - (double) levenshtein(a, b) / maxLength;
+    }
+
+    /**
+     * 编辑距离，两行滚动数组，行长度取较短的字符串
+     */
+    public static int levenshtein(String a, String b) {
+        if (a.length() < b.length()) {
+            String tmp = a;
+            a = b;
+            b = tmp;
+        }
+        int n = b.length();
+        if (n == 0) {
+            return a.length();
+        }
+        int[] prev = new int[n + 1];
+        int[] curr = new int[n + 1];
+        for (int j = 0; j <= n; j++) {
+            prev[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            curr[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= n; j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                curr[j] = Math.min(Math.min(curr[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+            }
+            int[] tmp = prev;
+            prev = curr;
+            curr = tmp;
+        }
+        return prev[n];
+    }
+
+    /**
+     * ROUGE-L F1：基于词级最长公共子序列
+     */
+    public static double rougeL(String candidate, String reference, boolean ignoreCase) {
+        Map<String, Integer> vocabulary = new HashMap<>();
+        int[] c = tokenize(candidate, ignoreCase, vocabulary);
+        int[] r = tokenize(reference, ignoreCase, vocabulary);
+        if (c.length == 0 || r.length == 0) {
+            return c.length == r.length ? 1.0 : 0.0;
+        }
+        int lcs = lcs(c, r);
+        if (lcs == 0) {
+            return 0.0;
+        }
+        double precision = (double) lcs / c.length;
+        double recall = (double) lcs / r.length;
+        return 2 * precision * recall / (precision + recall);
+    }
+
+    /**
+     * 句子级 BLEU-4，1阶以上使用加一平滑，并乘以长度惩罚
+     */
+    public static double bleu(String candidate, String reference, boolean ignoreCase) {
+        Map<String, Integer> vocabulary = new HashMap<>();
+        int[] c = tokenize(candidate, ignoreCase, vocabulary);
+        int[] r = tokenize(reference, ignoreCase, vocabulary);
+        if (c.length == 0 || r.length == 0) {
+            return c.length == r.length ? 1.0 : 0.0;
+        }
+        int maxOrder = Math.min(BLEU_MAX_ORDER, c.length);
+        double logPrecision = 0.0;
+        for (int order = 1; order <= maxOrder; order++) {
+            Map<Long, int[]> referenceCounts = countNgrams(r, order);
+            int matches = 0;
+            int total = c.length - order + 1;
+            for (int i = 0; i < total; i++) {
+                int[] count = referenceCounts.get(ngramKey(c, i, order));
+                if (count != null && count[0] > 0) {
+                    count[0]--;
+                    matches++;
+                }
+            }
+            double precision = order == 1 ? (double) matches / total : (matches + 1.0) / (total + 1.0);
+            if (precision == 0) {
+                return 0.0;
+            }
+            logPrecision += Math.log(precision);
+        }
+        double brevityPenalty = c.length >= r.length ? 1.0 : Math.exp(1.0 - (double) r.length / c.length);
+        return brevityPenalty * Math.exp(logPrecision / maxOrder);
+    }
+
+    private static int lcs(int[] a, int[] b) {
+        if (a.length < b.length) {
+            int[] tmp = a;
+            a = b;
+            b = tmp;
+        }
+        int[] row = new int[b.length + 1];
+        for (int token : a) {
+            int diagonal = 0;
+            for (int j = 1; j <= b.length; j++) {
+                int above = row[j];
+                row[j] = token == b[j - 1] ? diagonal + 1 : Math.max(row[j - 1], above);
+                diagonal = above;
+            }
+        }
+        return row[b.length];
+    }
+
+    private static Map<Long, int[]> countNgrams(int[] tokens, int order) {
+        Map<Long, int[]> counts = new HashMap<>();
+        for (int i = 0; i + order <= tokens.length; i++) {
+            counts.computeIfAbsent(ngramKey(tokens, i, order), k -> new int[1])[0]++;
+        }
+        return counts;
+    }
+
+    /**
+     * n-gram 编码为 long，每个词ID占16位，词表超过65536时退化为滚动哈希
+     */
+    private static long ngramKey(int[] tokens, int start, int order) {
+        long key = 0;
+        for (int i = start; i < start + order; i++) {
+            key = tokens[i] < 0xFFFF ? (key << 16) | (tokens[i] + 1) : key * 1_000_003L + tokens[i];
+        }
+        return key;
+    }
+
+    /**
+     * 分词并映射为词ID，同一次比较的两段文本共用词表
+     */
+    static int[] tokenize(String text, boolean ignoreCase, Map<String, Integer> vocabulary) {
+        if (text == null || text.isEmpty()) {
+            return new int[0];
+        }
+        int[] ids = new int[16];
+        int size = 0;
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            int codePoint = text.codePointAt(i);
+            int next = i + Character.charCount(codePoint);
+            if (Character.isWhitespace(codePoint) || isPunctuation(codePoint)) {
+                i = next;
+                continue;
+            }
+            int end = next;
+            if (isWordPart(codePoint)) {
+                while (end < length && isWordPart(text.codePointAt(end))) {
+                    end += Character.charCount(text.codePointAt(end));
+                }
+            }
+            String token = text.substring(i, end);
+            if (ignoreCase) {
+                token = token.toLowerCase();
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = vocabulary.computeIfAbsent(token, k -> vocabulary.size());
+            i = end;
+        }
+        return size == ids.length ? ids : Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * 拉丁字母、数字等按词切分，表意文字单字成词
+     */
+    private static boolean isWordPart(int codePoint) {
+        return Character.isLetterOrDigit(codePoint) && !Character.isIdeographic(codePoint)
+                && Character.UnicodeScript.of(codePoint) != Character.UnicodeScript.HIRAGANA
+                && Character.UnicodeScript.of(codePoint) != Character.UnicodeScript.KATAKANA
+                && Character.UnicodeScript.of(codePoint) != Character.UnicodeScript.HANGUL;
+    }
+
+    private static boolean isPunctuation(int codePoint) {
+        int type = Character.getType(codePoint);
+        return type == Character.CONNECTOR_PUNCTUATION || type == Character.DASH_PUNCTUATION
+                || type == Character.START_PUNCTUATION || type == Character.END_PUNCTUATION
+                || type == Character.INITIAL_QUOTE_PUNCTUATION || type == Character.FINAL_QUOTE_PUNCTUATION
+                || type == Character.OTHER_PUNCTUATION;
+    }
+}
@@ -0,0 +1,172 @@
+package com.alibaba.cloud.ai.studio.admin.service.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 使用本地桩服务验证 Batch API 客户端的请求格式与结果解析
+ */
+class OpenAiBatchClientTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, String> requestBodies = new ConcurrentHashMap<>();
+
+    private HttpServer server;
+
+    private OpenAiBatchClient batchClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/files", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            if ("POST".equals(exchange.getRequestMethod()) && "/v1/files".equals(path)) {
+                requestBodies.put("upload", read(exchange));
+                respond(exchange, 200, "{\"id\":\"file-in\"}");
+            } else if ("/v1/files/file-out/content".equals(path)) {
+                respond(exchange, 200, String.join("\n",
+                        "{\"custom_id\":\"1\",\"response\":{\"status_code\":200,\"body\":{\"choices\":[{\"message\":"
+                                + "{\"content\":\"hello\"}}],\"usage\":{\"prompt_tokens\":12,\"completion_tokens\":3}}}}",
+                        "",
+                        "{\"custom_id\":\"2\",\"response\":{\"status_code\":429,\"body\":{\"error\":{\"message\":\"rate limited\"}}}}",
+                        "{\"custom_id\":\"3\",\"error\":{\"message\":\"invalid request\"}}"));
+            } else {
+                respond(exchange, 404, "{}");
+            }
+        });
+        server.createContext("/v1/batches", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            if ("/v1/batches".equals(path)) {
+                requestBodies.put("authorization", exchange.getRequestHeaders().getFirst("Authorization"));
+                requestBodies.put("batch", read(exchange));
+                respond(exchange, 200, "{\"id\":\"batch-1\",\"status\":\"validating\"}");
+            } else if ("/v1/batches/batch-1".equals(path)) {
+                respond(exchange, 200, "{\"id\":\"batch-1\",\"status\":\"completed\",\"output_file_id\":\"file-out\","
+                        + "\"error_file_id\":null,\"request_counts\":{\"total\":3,\"completed\":2,\"failed\":1}}");
+            } else if ("/v1/batches/batch-1/cancel".equals(path)) {
+                requestBodies.put("cancel", read(exchange));
+                respond(exchange, 200, "{\"id\":\"batch-1\",\"status\":\"cancelling\"}");
+            } else {
+                respond(exchange, 500, "{\"error\":{\"message\":\"boom\"}}");
+            }
+        });
+        server.start();
+        batchClient = new OpenAiBatchClient(HttpClient.newHttpClient(), objectMapper,
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/", "sk-test", "gpt-4o-mini");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void submitWritesSnakeCaseParametersIntoEveryRequestBody() throws Exception {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("maxTokens", 256);
+        parameters.put("temperature", 0.2);
+        parameters.put("topP", 0.9);
+        parameters.put("maxCompletionToken", 128);
+        parameters.put("unknownOption", "ignored");
+        List<OpenAiBatchClient.BatchRequest> requests = List.of(
+                new OpenAiBatchClient.BatchRequest("1", List.of(Map.of("role", "user", "content", "hi"))),
+                new OpenAiBatchClient.BatchRequest("2", List.of(Map.of("role", "user", "content", "there"))));
+
+        String batchId = batchClient.submit(requests, OpenAiChatClientFactory.buildBatchParameters(parameters), "24h");
+
+        assertThat(batchId).isEqualTo("batch-1");
+        assertThat(requestBodies.get("authorization")).isEqualTo("Bearer sk-test");
+        JsonNode batch = objectMapper.readTree(requestBodies.get("batch"));
+        assertThat(batch.path("input_file_id").asText()).isEqualTo("file-in");
+        assertThat(batch.path("endpoint").asText()).isEqualTo("/v1/chat/completions");
+        assertThat(batch.path("completion_window").asText()).isEqualTo("24h");
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : requestBodies.get("upload").split("\r?\n")) {
+            if (line.startsWith("{")) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).path("custom_id").asText()).isEqualTo("1");
+        JsonNode body = lines.get(1).path("body");
+        assertThat(body.path("model").asText()).isEqualTo("gpt-4o-mini");
+        assertThat(body.path("max_tokens").asInt()).isEqualTo(256);
+        assertThat(body.path("top_p").asDouble()).isEqualTo(0.9);
+        assertThat(body.path("max_completion_tokens").asInt()).isEqualTo(128);
+        assertThat(body.has("maxTokens")).isFalse();
+        assertThat(body.has("unknownOption")).isFalse();
+        assertThat(body.path("messages").path(0).path("content").asText()).isEqualTo("there");
+    }
+
+    @Test
+    void getStatusAndReadResults() throws Exception {
+        OpenAiBatchClient.BatchStatus status = batchClient.getStatus("batch-1");
+        assertThat(status.isTerminal()).isTrue();
+        assertThat(status.getOutputFileId()).isEqualTo("file-out");
+        assertThat(status.getErrorFileId()).isNull();
+        assertThat(status.getTotal()).isEqualTo(3);
+        assertThat(status.getFailed()).isEqualTo(1);
+
+        List<OpenAiBatchClient.BatchResult> results = new ArrayList<>();
+        batchClient.readResults(status.getOutputFileId(), results::add);
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).getContent()).isEqualTo("hello");
+        assertThat(results.get(0).getPromptTokens()).isEqualTo(12);
+        assertThat(results.get(0).getCompletionTokens()).isEqualTo(3);
+        assertThat(results.get(1).getError()).isEqualTo("HTTP 429: rate limited");
+        assertThat(results.get(2).getError()).isEqualTo("invalid request");
+    }
+
+    @Test
+    void readResultsStopsWhenConsumerReturnsFalse() throws Exception {
+        List<OpenAiBatchClient.BatchResult> results = new ArrayList<>();
+        batchClient.readResults("file-out", result -> results.add(result) && results.size() < 2);
+
+        assertThat(results).extracting(OpenAiBatchClient.BatchResult::getCustomId).containsExactly("1", "2");
+    }
+
+    @Test
+    void cancelAndHttpErrors() throws Exception {
+        batchClient.cancel("batch-1");
+        assertThat(requestBodies).containsKey("cancel");
+
+        assertThatThrownBy(() -> batchClient.getStatus("missing"))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("HTTP 500");
+    }
+
+    private static String read(HttpExchange exchange) throws IOException {
+        return new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
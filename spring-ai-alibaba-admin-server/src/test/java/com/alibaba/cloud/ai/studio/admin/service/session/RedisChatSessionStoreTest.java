@@ -0,0 +1,156 @@
+package com.alibaba.cloud.ai.studio.admin.service.session;
+
+import com.alibaba.cloud.ai.studio.admin.config.ChatSessionProperties;
+import com.alibaba.cloud.ai.studio.admin.dto.ChatMessage;
+import com.alibaba.cloud.ai.studio.admin.dto.ChatSession;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.config.Config;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 会话存储的契约测试：两个存储实例模拟两个节点，共享同一个 Redis，验证读写、续期和跨节点失效
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisChatSessionStoreTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static RedissonClient redissonClient;
+
+    private final ChatSessionProperties sessionProperties = new ChatSessionProperties();
+
+    private RedisChatSessionStore node1;
+
+    private RedisChatSessionStore node2;
+
+    @BeforeAll
+    static void connect() {
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://" + REDIS.getHost() + ":" + REDIS.getMappedPort(6379));
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        redissonClient.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        sessionProperties.setExpireAfterAccess(Duration.ofMinutes(10));
+        sessionProperties.getRedis().setKeyPrefix("test:" + UUID.randomUUID() + ":");
+        node1 = new RedisChatSessionStore(redissonClient, sessionProperties, new SimpleMeterRegistry());
+        node2 = new RedisChatSessionStore(redissonClient, sessionProperties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        node1.close();
+        node2.close();
+    }
+
+    @Test
+    void putGetContainsRemove() {
+        ChatSession session = session("s1", "hello");
+        node1.put(session);
+
+        assertThat(node1.contains("s1")).isTrue();
+        assertThat(node2.contains("s1")).isTrue();
+        assertThat(node2.get("s1").getMessages()).extracting(ChatMessage::getContent).containsExactly("hello");
+
+        node1.remove("s1");
+        assertThat(node1.get("s1")).isNull();
+        assertThat(node1.contains("s1")).isFalse();
+        assertThat(node2.contains("s1")).isFalse();
+        assertThat(node1.get("missing")).isNull();
+    }
+
+    @Test
+    void getReturnsIndependentCopy() {
+        node1.put(session("s1", "hello"));
+
+        ChatSession first = node1.get("s1");
+        first.getMessages().add(ChatMessage.builder().role("assistant").content("changed").build());
+
+        assertThat(node1.get("s1").getMessages()).hasSize(1);
+    }
+
+    @Test
+    void keyExpiresAfterIdleTimeout() {
+        node1.put(session("s1", "hello"));
+
+        long ttl = redissonClient.getBucket(sessionProperties.getRedis().getKeyPrefix() + "s1", ByteArrayCodec.INSTANCE)
+                .remainTimeToLive();
+        assertThat(ttl).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(10).toMillis());
+    }
+
+    @Test
+    void writeOnOneNodeInvalidatesNearCacheOnTheOther() {
+        node1.put(session("s1", "v1"));
+        assertThat(node2.get("s1").getMessages().get(0).getContent()).isEqualTo("v1");
+
+        node1.put(session("s1", "v2"));
+
+        awaitTrue(() -> "v2".equals(node2.get("s1").getMessages().get(0).getContent()));
+    }
+
+    @Test
+    void removeOnOneNodeNotifiesListenersOnBothNodes() {
+        List<String> removedOnNode1 = new CopyOnWriteArrayList<>();
+        List<String> removedOnNode2 = new CopyOnWriteArrayList<>();
+        node1.addRemovalListener(removedOnNode1::add);
+        node2.addRemovalListener(removedOnNode2::add);
+        node1.put(session("s1", "hello"));
+        assertThat(node2.get("s1")).isNotNull();
+
+        node1.remove("s1");
+
+        assertThat(removedOnNode1).containsExactly("s1");
+        awaitTrue(() -> removedOnNode2.contains("s1"));
+        assertThat(node2.get("s1")).isNull();
+    }
+
+    private static ChatSession session(String sessionId, String content) {
+        ChatSession session = ChatSession.builder()
+                .sessionId(sessionId)
+                .promptKey("prompt")
+                .version("1.0")
+                .createTime(System.currentTimeMillis())
+                .lastUpdateTime(System.currentTimeMillis())
+                .build();
+        session.getMessages().add(ChatMessage.builder().role("user").content(content).timestamp(System.currentTimeMillis()).build());
+        return session;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met within 5s").isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
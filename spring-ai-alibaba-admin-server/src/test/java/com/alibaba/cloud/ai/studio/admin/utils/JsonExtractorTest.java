@@ -0,0 +1,155 @@
+package com.alibaba.cloud.ai.studio.admin.utils;
+
+import com.alibaba.fastjson.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 覆盖 JSON 提取的各条修复路径，以及流式增量追加时说明文字中花括号的处理
+ */
+class JsonExtractorTest {
+
+    @Test
+    void extractsPlainObject() {
+        JSONObject object = JsonExtractor.extractObject("{\"a\": 1, \"b\": \"x\"}");
+
+        assertThat(object.getInteger("a")).isEqualTo(1);
+        assertThat(object.getString("b")).isEqualTo("x");
+    }
+
+    @Test
+    void extractsFromMarkdownCodeBlockAndProse() {
+        JSONObject object = JsonExtractor.extractObject("好的，结果如下：\n```json\n{\"a\": \"x\"}\n```\n希望对你有帮助");
+
+        assertThat(object.getString("a")).isEqualTo("x");
+    }
+
+    @Test
+    void returnsNullWithoutObject() {
+        assertThat(JsonExtractor.extractObject(null)).isNull();
+        assertThat(JsonExtractor.extractObject("没有JSON")).isNull();
+        assertThat(new JsonExtractor().getObject()).isNull();
+    }
+
+    @Test
+    void repairsTrailingCommas() {
+        assertThat(JsonExtractor.repair("{\"a\": [1, 2, ], \"b\": 3, }")).isEqualTo("{\"a\": [1, 2], \"b\": 3}");
+    }
+
+    @Test
+    void repairsSingleQuotes() {
+        assertThat(JsonExtractor.repair("{'a': 'it\\'s \"x\"'}")).isEqualTo("{\"a\": \"it's \\\"x\\\"\"}");
+    }
+
+    @Test
+    void repairsUnquotedKeysAndBareWords() {
+        assertThat(JsonExtractor.repair("{a: 1, b_c: value}")).isEqualTo("{\"a\": 1, \"b_c\": \"value\"}");
+    }
+
+    @Test
+    void repairsPythonLiterals() {
+        assertThat(JsonExtractor.repair("{\"a\": True, \"b\": False, \"c\": None, \"d\": NaN}"))
+                .isEqualTo("{\"a\": true, \"b\": false, \"c\": null, \"d\": null}");
+    }
+
+    @Test
+    void removesComments() {
+        assertThat(JsonExtractor.repair("{\"a\": 1, // 行注释\n\"b\": /* 块注释 */ 2}"))
+                .isEqualTo("{\"a\": 1, \n\"b\":  2}");
+    }
+
+    @Test
+    void escapesControlCharactersInStrings() {
+        assertThat(JsonExtractor.repair("{\"a\": \"line1\nline2\tend\"}")).isEqualTo("{\"a\": \"line1\\nline2\\tend\"}");
+    }
+
+    @Test
+    void closesTruncatedOutput() {
+        assertThat(JsonExtractor.repair("{\"a\": \"unfinished")).isEqualTo("{\"a\": \"unfinished\"}");
+        assertThat(JsonExtractor.repair("{\"a\": [1, 2,")).isEqualTo("{\"a\": [1, 2]}");
+        assertThat(JsonExtractor.repair("{\"a\": 1, \"b\":")).isEqualTo("{\"a\": 1, \"b\":null}");
+        assertThat(JsonExtractor.repair("{\"a\": 1, \"ke")).isEqualTo("{\"a\": 1, \"ke\":null}");
+    }
+
+    @Test
+    void extractsRepairedObject() {
+        JSONObject object = JsonExtractor.extractObject("结果：{keyIntent: '意图', finalPrompt: \"最终\", // 注释\n}");
+
+        assertThat(object.getString("keyIntent")).isEqualTo("意图");
+        assertThat(object.getString("finalPrompt")).isEqualTo("最终");
+    }
+
+    @Test
+    void skipsProseBracesWhenScanningCandidates() {
+        JSONObject object = JsonExtractor.extractObject("我会把 {name} 替换为实际值：{\"name\": \"张三\"}");
+
+        assertThat(object.getString("name")).isEqualTo("张三");
+    }
+
+    @Test
+    void appendCompletesOnlyOnParsableObject() {
+        JsonExtractor extractor = new JsonExtractor();
+        List<String> chunks = List.of("我会把 {na", "me} 替换为", "实际值：{\"na", "me\": \"张", "三\"}", "后续内容 {\"x\": 1}");
+
+        int consumed = 0;
+        for (String chunk : chunks) {
+            consumed++;
+            if (extractor.append(chunk)) {
+                break;
+            }
+        }
+
+        assertThat(consumed).isEqualTo(5);
+        assertThat(extractor.isComplete()).isTrue();
+        assertThat(extractor.getObject().getString("name")).isEqualTo("张三");
+        assertThat(extractor.append("更多")).isTrue();
+    }
+
+    @Test
+    void appendRepairsTruncatedStream() {
+        JsonExtractor extractor = new JsonExtractor();
+
+        assertThat(extractor.append("说明 {x} 之后：{\"keyIntent\": \"意图\", \"finalPrompt\": \"未写")).isFalse();
+
+        assertThat(extractor.isComplete()).isFalse();
+        JSONObject object = extractor.getObject();
+        assertThat(object.getString("keyIntent")).isEqualTo("意图");
+        assertThat(object.getString("finalPrompt")).isEqualTo("未写");
+    }
+
+    @Test
+    void appendTracksStringsAcrossChunks() {
+        JsonExtractor extractor = new JsonExtractor();
+
+        assertThat(extractor.append("{\"a\": \"含有 } 和 \\\"")).isFalse();
+        assertThat(extractor.append(" 的文本\"")).isFalse();
+        assertThat(extractor.append("}")).isTrue();
+
+        assertThat(extractor.getObject().getString("a")).isEqualTo("含有 } 和 \" 的文本");
+    }
+
+    @Test
+    void bindsToType() {
+        JsonExtractor extractor = new JsonExtractor();
+        extractor.append("{\"value\": \"v\"}");
+
+        assertThat(extractor.bind(Holder.class).getValue()).isEqualTo("v");
+        assertThat(JsonExtractor.parse("前缀 {\"value\": \"w\"}", Holder.class).getValue()).isEqualTo("w");
+    }
+
+    public static class Holder {
+
+        private String value;
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+}